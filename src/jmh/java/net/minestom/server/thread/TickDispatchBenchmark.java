@@ -0,0 +1,122 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.UpdateManager;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.utils.Position;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch of the tick work to the {@link TickThread tick threads},
+ * through {@link ThreadProvider#update(long)} and a whole {@link UpdateManager} tick.
+ * <p>
+ * {@link PerInstanceThreadProvider} (the default) and {@link PerChunkThreadProvider} go through the flat dispatch
+ * of {@link ThreadProvider}, the other providers through their own grouping.
+ * <p>
+ * Instances are made of empty chunks filled with entities without gravity, so that most of the time is spent dispatching.
+ * Run with the GC profiler to check that no allocation is done by the dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickDispatchBenchmark {
+
+    private static final int CHUNK_RADIUS = 4;
+
+    @Param({"PER_INSTANCE", "PER_CHUNK", "LOAD_BALANCED", "REGION"})
+    public String provider;
+
+    @Param({"4"})
+    public int threadCount;
+
+    @Param({"8"})
+    public int instanceCount;
+
+    @Param({"50000"})
+    public int entityCount;
+
+    private UpdateManager updateManager;
+    private ThreadProvider threadProvider;
+    private long time;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        MinecraftServer.init();
+        this.updateManager = MinecraftServer.getUpdateManager();
+        this.threadProvider = createThreadProvider();
+        this.updateManager.setThreadProvider(threadProvider);
+
+        final int chunkCount = (CHUNK_RADIUS * 2) * (CHUNK_RADIUS * 2);
+        final InstanceContainer[] instances = new InstanceContainer[instanceCount];
+        CountDownLatch latch = new CountDownLatch(instanceCount * chunkCount);
+        for (int i = 0; i < instanceCount; i++) {
+            final InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+            for (int x = -CHUNK_RADIUS; x < CHUNK_RADIUS; x++) {
+                for (int z = -CHUNK_RADIUS; z < CHUNK_RADIUS; z++) {
+                    instance.loadChunk(x, z, chunk -> latch.countDown());
+                }
+            }
+            instances[i] = instance;
+        }
+        latch.await();
+
+        final int blockRadius = CHUNK_RADIUS * Chunk.CHUNK_SIZE_X;
+        for (int i = 0; i < entityCount; i++) {
+            final InstanceContainer instance = instances[i % instanceCount];
+            final int offset = i / instanceCount;
+            final float x = offset % (blockRadius * 2) - blockRadius;
+            final float z = (offset / (blockRadius * 2)) % (blockRadius * 2) - blockRadius;
+            Entity entity = new Entity(EntityType.ARMOR_STAND);
+            entity.setNoGravity(true);
+            entity.setInstance(instance, new Position(x, 64, z));
+        }
+
+        // Assign the entities to their threads
+        this.time = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            serverTick();
+        }
+    }
+
+    private ThreadProvider createThreadProvider() {
+        switch (provider) {
+            case "PER_INSTANCE":
+                return new PerInstanceThreadProvider(threadCount);
+            case "PER_CHUNK":
+                return new PerChunkThreadProvider(threadCount);
+            case "LOAD_BALANCED":
+                return new LoadBalancedThreadProvider(threadCount);
+            case "REGION":
+                return new RegionThreadProvider(threadCount);
+            default:
+                throw new IllegalArgumentException("Unknown thread provider " + provider);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        // The server has never been started
+        this.updateManager.stop();
+    }
+
+    @Benchmark
+    public void threadProviderUpdate() throws InterruptedException {
+        this.time += MinecraftServer.TICK_MS;
+        this.threadProvider.update(time).await();
+    }
+
+    @Benchmark
+    public void serverTick() {
+        this.time += MinecraftServer.TICK_MS;
+        this.updateManager.simulateTick(time);
+    }
+}
@@ -27,7 +27,10 @@ import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.monitoring.NetworkMetrics;
+import net.minestom.server.network.netty.AdaptiveCompression;
 import net.minestom.server.network.netty.NettyServer;
+import net.minestom.server.network.netty.TransportConfig;
 import net.minestom.server.network.packet.server.play.PluginMessagePacket;
 import net.minestom.server.network.packet.server.play.ServerDifficultyPacket;
 import net.minestom.server.network.packet.server.play.UpdateViewDistancePacket;
@@ -43,10 +46,13 @@ import net.minestom.server.statistic.StatisticType;
 import net.minestom.server.storage.StorageLocation;
 import net.minestom.server.storage.StorageManager;
 import net.minestom.server.terminal.MinestomTerminal;
+import net.minestom.server.thread.ThreadAffinityPolicy;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.thread.MinestomThread;
+import net.minestom.server.utils.thread.ThreadAffinity;
+import net.minestom.server.utils.thread.VirtualThreadUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.Difficulty;
 import net.minestom.server.world.DimensionTypeManager;
@@ -95,6 +101,7 @@ public final class MinecraftServer {
 
     // Network monitoring
     private static int rateLimit = 300;
+    private static int byteRateLimit = Integer.getInteger("minestom.byte-rate-limit", 0);
     private static int maxPacketSize = 30_000;
     // Network
     private static PacketListenerManager packetListenerManager;
@@ -136,9 +143,18 @@ public final class MinecraftServer {
     private static int chunkViewDistance = 8;
     private static int entityViewDistance = 5;
     private static int compressionThreshold = 256;
+    private static final AdaptiveCompression adaptiveCompression = new AdaptiveCompression();
+    private static final NetworkMetrics networkMetrics = new NetworkMetrics();
+    private static final TransportConfig transportConfig = new TransportConfig();
     private static boolean packetCaching = true;
     private static boolean groupedPacket = true;
     private static boolean terminalEnabled = System.getProperty("minestom.terminal.disabled") == null;
+    private static boolean virtualThreads = Boolean.getBoolean("minestom.virtual-threads");
+    private static boolean entityUpdateCoalescing = Boolean.getBoolean("minestom.entity-update-coalescing");
+    private static boolean inboundMovementCoalescing = Boolean.getBoolean("minestom.inbound-movement-coalescing");
+    private static boolean deferredPacketEncoding = Boolean.getBoolean("minestom.deferred-packet-encoding");
+    private static ThreadAffinityPolicy threadAffinityPolicy = Boolean.getBoolean("minestom.thread-affinity") ?
+            ThreadAffinityPolicy.numaAware() : null;
     private static ResponseDataConsumer responseDataConsumer;
     private static String brandName = "Minestom";
     private static Difficulty difficulty = Difficulty.NORMAL;
@@ -249,6 +265,25 @@ public final class MinecraftServer {
         MinecraftServer.rateLimit = rateLimit;
     }
 
+    /**
+     * Gets the maximum number of bytes a client can send over 1 second.
+     *
+     * @return the byte limit over 1 second, 0 if not enabled
+     */
+    public static int getByteRateLimit() {
+        return byteRateLimit;
+    }
+
+    /**
+     * Changes the number of bytes a client can send over 1 second without being disconnected,
+     * measured before decompression.
+     *
+     * @param byteRateLimit the number of bytes, 0 to disable
+     */
+    public static void setByteRateLimit(int byteRateLimit) {
+        MinecraftServer.byteRateLimit = byteRateLimit;
+    }
+
     /**
      * Gets the maximum packet size (in bytes) that a client can send without getting disconnected.
      *
@@ -546,6 +581,24 @@ public final class MinecraftServer {
         return compressionThreshold;
     }
 
+    /**
+     * Gets the compression level settings, which can be modified at any time.
+     *
+     * @return the adaptive compression settings
+     */
+    public static @NotNull AdaptiveCompression getAdaptiveCompression() {
+        return adaptiveCompression;
+    }
+
+    /**
+     * Gets the metrics of the packets sent and received by the server.
+     *
+     * @return the network metrics
+     */
+    public static @NotNull NetworkMetrics getNetworkMetrics() {
+        return networkMetrics;
+    }
+
     /**
      * Changes the compression threshold of the server.
      * <p>
@@ -615,6 +668,134 @@ public final class MinecraftServer {
         MinecraftServer.groupedPacket = groupedPacket;
     }
 
+    /**
+     * Gets if the movement packets of an entity are merged per connection until the next flush.
+     *
+     * @return true if entity update coalescing is enabled
+     * @see net.minestom.server.network.player.EntityUpdateCoalescer
+     */
+    public static boolean isEntityUpdateCoalescing() {
+        return entityUpdateCoalescing;
+    }
+
+    /**
+     * Enables or disables the merging of entity movement packets per connection.
+     * <p>
+     * Reduces the bandwidth when entities are moved multiple times per tick, but movement packets
+     * are then encoded for each viewer instead of once as a grouped packet.
+     * <p>
+     * The merged movements are sent at the flush, or earlier before any other packet targeting the same entity,
+     * so they can be reordered after the packets of other entities sent later in the tick.
+     *
+     * @param entityUpdateCoalescing true to enable entity update coalescing
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setEntityUpdateCoalescing(boolean entityUpdateCoalescing) {
+        Check.stateCondition(started, "Entity update coalescing cannot be changed after the server has been started.");
+        MinecraftServer.entityUpdateCoalescing = entityUpdateCoalescing;
+    }
+
+    /**
+     * Gets if the consecutive movement packets received from a player are merged before being processed.
+     *
+     * @return true if inbound movement coalescing is enabled
+     * @see net.minestom.server.network.packet.client.ClientMovementCoalescer
+     */
+    public static boolean isInboundMovementCoalescing() {
+        return inboundMovementCoalescing;
+    }
+
+    /**
+     * Enables or disables the merging of the movement packets received from players.
+     * <p>
+     * Movement listeners and {@link net.minestom.server.event.player.PlayerMoveEvent} are then called
+     * once per tick and per player instead of once per received packet.
+     *
+     * @param inboundMovementCoalescing true to enable inbound movement coalescing
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setInboundMovementCoalescing(boolean inboundMovementCoalescing) {
+        Check.stateCondition(started, "Inbound movement coalescing cannot be changed after the server has been started.");
+        MinecraftServer.inboundMovementCoalescing = inboundMovementCoalescing;
+    }
+
+    /**
+     * Gets if the packets sent to a single player are encoded and compressed when flushed
+     * instead of by the thread sending them.
+     *
+     * @return true if deferred packet encoding is enabled
+     * @see net.minestom.server.network.netty.PacketEncodingStage
+     */
+    public static boolean hasDeferredPacketEncoding() {
+        return deferredPacketEncoding;
+    }
+
+    /**
+     * Enables or disables deferred packet encoding.
+     * <p>
+     * Packets are then encoded by the netty worker threads, keeping the compression of large packets
+     * (e.g. chunks) out of the tick threads. Grouped packets are still encoded once by the sending thread.
+     * <p>
+     * WARNING: a packet must not be modified after being sent, it may not have been encoded yet.
+     *
+     * @param deferredPacketEncoding true to enable deferred packet encoding
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setDeferredPacketEncoding(boolean deferredPacketEncoding) {
+        Check.stateCondition(started, "Deferred packet encoding cannot be changed after the server has been started.");
+        MinecraftServer.deferredPacketEncoding = deferredPacketEncoding;
+    }
+
+    /**
+     * Gets if blocking work (see {@link SchedulerManager#getBlockingPool()}) is executed on virtual threads.
+     *
+     * @return true if virtual threads are enabled and supported by the runtime
+     */
+    public static boolean isVirtualThreads() {
+        return virtualThreads && VirtualThreadUtils.isSupported();
+    }
+
+    /**
+     * Enables or disables the execution of blocking work on virtual threads.
+     * <p>
+     * Ignored if the runtime does not support virtual threads (before Java 21).
+     *
+     * @param virtualThreads true to enable virtual threads
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setVirtualThreads(boolean virtualThreads) {
+        Check.stateCondition(started, "Virtual threads cannot be enabled after the server has been started.");
+        if (virtualThreads && !VirtualThreadUtils.isSupported()) {
+            LOGGER.warn("Virtual threads are not supported by the current runtime, blocking work will use the scheduler pool.");
+        }
+        MinecraftServer.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the policy used to pin the tick threads and the Netty worker threads to CPUs.
+     *
+     * @return the thread affinity policy, null if threads are not pinned
+     */
+    public static @Nullable ThreadAffinityPolicy getThreadAffinityPolicy() {
+        return threadAffinityPolicy;
+    }
+
+    /**
+     * Changes the policy used to pin the tick threads and the Netty worker threads to CPUs.
+     * <p>
+     * Pinning requires the native library of {@link ThreadAffinity}, the policy is ignored without it.
+     *
+     * @param threadAffinityPolicy the new thread affinity policy, null to not pin threads
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setThreadAffinityPolicy(@Nullable ThreadAffinityPolicy threadAffinityPolicy) {
+        Check.stateCondition(started, "The thread affinity policy cannot be changed after the server has been started.");
+        if (threadAffinityPolicy != null && !ThreadAffinity.isSupported()) {
+            LOGGER.warn("Thread affinity is not supported, the native library is missing from java.library.path.");
+        }
+        MinecraftServer.threadAffinityPolicy = threadAffinityPolicy;
+    }
+
     /**
      * Gets if the built in Minestom terminal is enabled.
      * @return true if the terminal is enabled
@@ -715,6 +896,15 @@ public final class MinecraftServer {
         return updateManager;
     }
 
+    /**
+     * Gets the transport options (allocator, socket and native transport tuning) used when the server starts.
+     *
+     * @return the transport configuration
+     */
+    public static @NotNull TransportConfig getTransportConfig() {
+        return transportConfig;
+    }
+
     /**
      * Gets the number of threads used by Netty.
      * <p>
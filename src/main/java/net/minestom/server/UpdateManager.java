@@ -7,15 +7,23 @@ import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceManager;
 import net.minestom.server.monitoring.TickMonitor;
 import net.minestom.server.network.ConnectionManager;
-import net.minestom.server.network.player.NettyPlayerConnection;
+import net.minestom.server.network.netty.EventLoopFlusher;
 import net.minestom.server.thread.SingleThreadProvider;
+import net.minestom.server.thread.ThreadAffinityPolicy;
 import net.minestom.server.thread.ThreadProvider;
-import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.thread.TickBarrier;
+import net.minestom.server.thread.TickPhase;
+import net.minestom.server.thread.TickPipeline;
+import net.minestom.server.thread.TickSchedulingPolicy;
+import net.minestom.server.thread.TickThread;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.LongConsumer;
 
@@ -26,18 +34,33 @@ import java.util.function.LongConsumer;
  */
 public final class UpdateManager {
 
-    private final ScheduledExecutorService updateExecutionService = Executors.newSingleThreadScheduledExecutor(r ->
-            new Thread(r, MinecraftServer.THREAD_NAME_TICK_SCHEDULER));
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(MinecraftServer.TICK_MS);
+
+    private final Thread tickLoopThread = new Thread(this::tickLoop, MinecraftServer.THREAD_NAME_TICK_SCHEDULER);
 
     private volatile boolean stopRequested;
 
-    // TODO make configurable
+    private volatile TickSchedulingPolicy tickSchedulingPolicy = TickSchedulingPolicy.FIXED_RATE;
+    private volatile int maxCatchUpTicks = 5;
+    // Difference between the scheduled and actual start of the last tick
+    private volatile long tickJitter;
+
     private ThreadProvider threadProvider = new SingleThreadProvider();
+    private final TickPipeline tickPipeline = new TickPipeline();
+    private final EventLoopFlusher networkFlusher = new EventLoopFlusher();
 
     private final Queue<LongConsumer> tickStartCallbacks = Queues.newConcurrentLinkedQueue();
     private final Queue<LongConsumer> tickEndCallbacks = Queues.newConcurrentLinkedQueue();
     private final List<Consumer<TickMonitor>> tickMonitors = new CopyOnWriteArrayList<>();
 
+    // Built-in work of the tick phases, reused every tick
+    private final Runnable inputPhase = this::handleInputs;
+    private final Runnable instancePhase = this::tickInstances;
+    private final Runnable entityPhase = this::tickEntities;
+    private final Runnable networkFlushPhase = this::flushConnections;
+    // Start time of the current tick, read by the phases
+    private long tickStart;
+
     /**
      * Should only be created in MinecraftServer.
      */
@@ -48,74 +71,156 @@ public final class UpdateManager {
      * Starts the server loop in the update thread.
      */
     protected void start() {
-        final ConnectionManager connectionManager = MinecraftServer.getConnectionManager();
+        final ThreadAffinityPolicy affinityPolicy = MinecraftServer.getThreadAffinityPolicy();
+        if (affinityPolicy != null) {
+            final List<TickThread> threads = threadProvider.getThreads();
+            for (int i = 0; i < threads.size(); i++) {
+                threads.get(i).setAffinity(affinityPolicy.getTickThreadCpus(i, threads.size()));
+            }
+        }
+        this.tickLoopThread.start();
+    }
 
-        updateExecutionService.scheduleAtFixedRate(() -> {
+    /**
+     * Executes the ticks following the {@link TickSchedulingPolicy}, until {@link #stop()} is called.
+     */
+    private void tickLoop() {
+        long nextTick = System.nanoTime();
+        while (!stopRequested) {
+            final long tickStartNano = System.nanoTime();
+            this.tickJitter = tickStartNano - nextTick;
             try {
-                if (stopRequested) {
-                    updateExecutionService.shutdown();
-                    return;
-                }
-
-                long currentTime = System.nanoTime();
-                final long tickStart = System.currentTimeMillis();
-
-                // Tick start callbacks
-                doTickCallback(tickStartCallbacks, tickStart);
-
-                // Waiting players update (newly connected clients waiting to get into the server)
-                connectionManager.updateWaitingPlayers();
-
-                // Keep Alive Handling
-                connectionManager.handleKeepAlive(tickStart);
-
-                // Server tick (chunks/entities)
-                serverTick(tickStart);
-
-                // the time that the tick took in nanoseconds
-                final long tickTime = System.nanoTime() - currentTime;
+                tick(System.currentTimeMillis());
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
 
-                // Tick end callbacks
-                doTickCallback(tickEndCallbacks, tickTime);
+            // Find when the next tick should start
+            final long tickEndNano = System.nanoTime();
+            nextTick += TICK_NANOS;
+            if (nextTick < tickEndNano) {
+                // Tick is late
+                switch (tickSchedulingPolicy) {
+                    case FIXED_RATE:
+                        nextTick = Math.max(nextTick, tickEndNano - TICK_NANOS * maxCatchUpTicks);
+                        break;
+                    case SKIP_MISSED:
+                        nextTick += ((tickEndNano - nextTick) / TICK_NANOS + 1) * TICK_NANOS;
+                        break;
+                    case ADAPTIVE:
+                        nextTick = tickEndNano;
+                        break;
+                }
+            }
 
-                // Monitoring
-                if (!tickMonitors.isEmpty()) {
-                    final double acquisitionTimeMs = Acquirable.getAcquiringTime() / 1e6D;
-                    final double tickTimeMs = tickTime / 1e6D;
-                    final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
-                    this.tickMonitors.forEach(consumer -> consumer.accept(tickMonitor));
+            // Wait for the next tick
+            long remaining;
+            while ((remaining = nextTick - System.nanoTime()) > 0 && !stopRequested) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
 
-                    Acquirable.resetAcquiringTime();
-                }
+    /**
+     * Executes a tick outside of the tick loop, ticks are then driven by the caller.
+     * <p>
+     * Used by {@link net.minestom.server.simulation.Simulation} to run ticks with a virtual clock.
+     *
+     * @param tickStart the time of the tick in milliseconds
+     * @throws IllegalStateException if the server is started, the tick loop being already running
+     */
+    @ApiStatus.Internal
+    public void simulateTick(long tickStart) {
+        Check.stateCondition(MinecraftServer.isStarted(), "Ticks cannot be simulated once the server is started");
+        this.tickJitter = 0;
+        tick(tickStart);
+    }
 
-                // Flush all waiting packets
-                AsyncUtils.runAsync(() -> connectionManager.getOnlinePlayers().parallelStream()
-                        .filter(player -> player.getPlayerConnection() instanceof NettyPlayerConnection)
-                        .map(player -> (NettyPlayerConnection) player.getPlayerConnection())
-                        .forEach(NettyPlayerConnection::flush));
+    /**
+     * Executes a single server tick.
+     *
+     * @param tickStart the time of the tick in milliseconds
+     */
+    private void tick(long tickStart) {
+        long currentTime = System.nanoTime();
+        final List<TickThread> threads = threadProvider.getThreads();
+        this.tickStart = tickStart;
+
+        // Tick start callbacks
+        doTickCallback(tickStartCallbacks, tickStart);
+
+        // Waiting players update (newly connected clients waiting to get into the server)
+        // & Keep Alive Handling
+        tickPipeline.runPhase(TickPhase.INPUT, tickStart, threads, inputPhase);
+
+        // Server tick (instances/chunks/entities)
+        serverTick(tickStart, threads);
+
+        tickPipeline.runPhase(TickPhase.BLOCK_UPDATE, tickStart, threads, null);
+        tickPipeline.runPhase(TickPhase.VISIBILITY, tickStart, threads, null);
+
+        // the time that the tick took in nanoseconds
+        final long tickTime = System.nanoTime() - currentTime;
+        MinecraftServer.getAdaptiveCompression().updateTickTime(tickTime);
+
+        // Tick end callbacks
+        doTickCallback(tickEndCallbacks, tickTime);
+
+        // Monitoring
+        if (!tickMonitors.isEmpty()) {
+            final double acquisitionTimeMs = Acquirable.getAcquiringTime() / 1e6D;
+            final double tickTimeMs = tickTime / 1e6D;
+            final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs,
+                    Acquirable.getContentions(), tickPipeline.getPhaseTimes(), tickJitter / 1e6D,
+                    networkFlusher.getLastFlushLatency() / 1e6D, networkFlusher.getLastFlushCount());
+            this.tickMonitors.forEach(consumer -> consumer.accept(tickMonitor));
+
+            Acquirable.resetAcquiringTime();
+            Acquirable.resetContentions();
+        }
 
-            } catch (Exception e) {
-                MinecraftServer.getExceptionManager().handleException(e);
-            }
-        }, 0, MinecraftServer.TICK_MS, TimeUnit.MILLISECONDS);
+        // Flush all waiting packets
+        tickPipeline.runPhase(TickPhase.NETWORK_FLUSH, tickStart, threads, networkFlushPhase);
     }
 
     /**
      * Executes a server tick and returns only once all the futures are completed.
      *
      * @param tickStart the time of the tick in milliseconds
+     * @param threads   the tick threads
      */
-    private void serverTick(long tickStart) {
-        // Tick all instances
-        MinecraftServer.getInstanceManager().getInstances().forEach(instance ->
-                instance.tick(tickStart));
+    private void serverTick(long tickStart, @NotNull List<TickThread> threads) {
+        // Tick all instances (in parallel, unless ticked with their chunks)
+        tickPipeline.runPhase(TickPhase.INSTANCE, tickStart, threads, instancePhase);
 
         // Tick all chunks (and entities inside)
-        final CountDownLatch countDownLatch = threadProvider.update(tickStart);
+        tickPipeline.runPhase(TickPhase.ENTITY, tickStart, threads, entityPhase);
+    }
+
+    private void handleInputs() {
+        final ConnectionManager connectionManager = MinecraftServer.getConnectionManager();
+        connectionManager.updateWaitingPlayers();
+        connectionManager.handleKeepAlive(tickStart);
+    }
+
+    private void tickInstances() {
+        if (threadProvider.isInstanceTickFolded())
+            return;
+        final TickBarrier barrier = threadProvider.updateInstances(
+                MinecraftServer.getInstanceManager().getInstances(), tickStart);
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void tickEntities() {
+        final TickBarrier barrier = threadProvider.update(tickStart);
 
         // Wait tick end
         try {
-            countDownLatch.await();
+            barrier.await();
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -125,6 +230,10 @@ public final class UpdateManager {
         this.threadProvider.refreshThreads(tickTime);
     }
 
+    private void flushConnections() {
+        this.networkFlusher.flush(MinecraftServer.getConnectionManager().getOnlinePlayers());
+    }
+
     /**
      * Used to execute tick-related callbacks.
      *
@@ -149,6 +258,32 @@ public final class UpdateManager {
         return threadProvider;
     }
 
+    /**
+     * Gets the pipeline executing the phases of each tick.
+     * <p>
+     * Used to register work into a specific {@link TickPhase}.
+     *
+     * @return the tick pipeline
+     */
+    public @NotNull TickPipeline getTickPipeline() {
+        return tickPipeline;
+    }
+
+    /**
+     * Changes the {@link ThreadProvider} used to tick chunks and entities.
+     * <p>
+     * The already registered instances are transferred to the new provider.
+     *
+     * @param threadProvider the new thread provider
+     * @throws IllegalStateException if the server is already started
+     */
+    public void setThreadProvider(@NotNull ThreadProvider threadProvider) {
+        Check.stateCondition(MinecraftServer.isStarted(), "The thread provider cannot be changed after the server has been started.");
+        this.threadProvider.shutdown();
+        this.threadProvider = threadProvider;
+        MinecraftServer.getInstanceManager().getInstances().forEach(threadProvider::onInstanceCreate);
+    }
+
     /**
      * Signals the {@link ThreadProvider} that an instance has been created.
      * <p>
@@ -241,11 +376,60 @@ public final class UpdateManager {
         this.tickMonitors.remove(consumer);
     }
 
+    /**
+     * Gets how ticks are scheduled when the server is late.
+     *
+     * @return the tick scheduling policy
+     */
+    public @NotNull TickSchedulingPolicy getTickSchedulingPolicy() {
+        return tickSchedulingPolicy;
+    }
+
+    /**
+     * Changes how ticks are scheduled when the server is late.
+     *
+     * @param tickSchedulingPolicy the new tick scheduling policy
+     */
+    public void setTickSchedulingPolicy(@NotNull TickSchedulingPolicy tickSchedulingPolicy) {
+        this.tickSchedulingPolicy = tickSchedulingPolicy;
+    }
+
+    /**
+     * Gets the maximum number of late ticks executed back-to-back
+     * when using {@link TickSchedulingPolicy#FIXED_RATE}.
+     *
+     * @return the maximum number of ticks to catch up
+     */
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    /**
+     * Changes the maximum number of late ticks executed back-to-back
+     * when using {@link TickSchedulingPolicy#FIXED_RATE}.
+     *
+     * @param maxCatchUpTicks the maximum number of ticks to catch up, 0 to never catch up
+     */
+    public void setMaxCatchUpTicks(int maxCatchUpTicks) {
+        Check.argCondition(maxCatchUpTicks < 0, "The number of ticks to catch up cannot be negative");
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /**
+     * Gets the difference between the scheduled and the actual start time of the last tick.
+     *
+     * @return the last tick jitter in nanoseconds
+     */
+    public long getTickJitter() {
+        return tickJitter;
+    }
+
     /**
      * Stops the server loop.
      */
     public void stop() {
         this.stopRequested = true;
+        LockSupport.unpark(tickLoopThread);
         this.threadProvider.shutdown();
     }
 }
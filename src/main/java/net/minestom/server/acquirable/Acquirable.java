@@ -2,6 +2,7 @@ package net.minestom.server.acquirable;
 
 import com.google.common.annotations.Beta;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.monitoring.LockContention;
 import net.minestom.server.thread.ThreadProvider;
 import net.minestom.server.thread.TickThread;
 import net.minestom.server.utils.async.AsyncUtils;
@@ -9,6 +10,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -59,6 +61,25 @@ public interface Acquirable<T> {
         AcquirableImpl.WAIT_COUNTER_NANO.set(0);
     }
 
+    /**
+     * Gets the lock contentions between threads since last tick.
+     *
+     * @return the contention of each acquirer/owner thread pair
+     */
+    static @NotNull List<@NotNull LockContention> getContentions() {
+        return AcquirableImpl.getContentions();
+    }
+
+    /**
+     * Resets {@link #getContentions()}.
+     * <p>
+     * Mostly for internal use.
+     */
+    @ApiStatus.Internal
+    static void resetContentions() {
+        AcquirableImpl.resetContentions();
+    }
+
     /**
      * Creates a new {@link Acquirable} object.
      * <p>
@@ -79,6 +100,10 @@ public interface Acquirable<T> {
      * <p>
      * Useful when your code cannot be done inside a callback and need to be sync.
      * Do not forget to call {@link Acquired#unlock()} once you are done with it.
+     * <p>
+     * If waiting for the element could deadlock, the locks held by the current thread
+     * (including the one of its {@link TickThread}) are yielded to the waiting threads before being acquired back,
+     * so the elements of the current thread may be modified during the acquisition.
      *
      * @return an acquired object
      * @see #sync(Consumer) for auto-closeable capability
@@ -110,15 +135,18 @@ public interface Acquirable<T> {
     /**
      * Locks the acquirable element, execute {@code consumer} synchronously and unlock the thread.
      * <p>
-     * Free if the element is already present in the current thread, blocking otherwise.
+     * Free if the element is already present in the current thread, blocking otherwise (see {@link #lock()}).
      *
      * @param consumer the callback to execute once the element has been safely acquired
      * @see #async(Consumer)
      */
     default void sync(@NotNull Consumer<T> consumer) {
         var acquired = lock();
-        consumer.accept(acquired.get());
-        acquired.unlock();
+        try {
+            consumer.accept(acquired.get());
+        } finally {
+            acquired.unlock();
+        }
     }
 
     /**
@@ -155,6 +183,8 @@ public interface Acquirable<T> {
     class Handler {
 
         private volatile ThreadProvider.ChunkEntry chunkEntry;
+        // Index of the element in the chunk entry list, -1 if not in any
+        private int chunkEntrySlot = -1;
 
         public ThreadProvider.ChunkEntry getChunkEntry() {
             return chunkEntry;
@@ -165,6 +195,21 @@ public interface Acquirable<T> {
             this.chunkEntry = chunkEntry;
         }
 
+        /**
+         * Gets the index of the element in {@link ThreadProvider.ChunkEntry#getEntities()}.
+         *
+         * @return the element index, -1 if not in the chunk entry
+         */
+        @ApiStatus.Internal
+        public int getChunkEntrySlot() {
+            return chunkEntrySlot;
+        }
+
+        @ApiStatus.Internal
+        public void refreshChunkEntrySlot(int chunkEntrySlot) {
+            this.chunkEntrySlot = chunkEntrySlot;
+        }
+
         public TickThread getTickThread() {
             return chunkEntry != null ? chunkEntry.getThread() : null;
         }
@@ -22,18 +22,34 @@ public class AcquirableCollection<E> implements Collection<Acquirable<E>> {
         final Thread currentThread = Thread.currentThread();
         var threadEntitiesMap = retrieveOptionalThreadMap(acquirableCollection, currentThread, consumer);
 
-        // Acquire all the threads one by one
-        {
+        if (threadEntitiesMap.isEmpty())
+            return;
+
+        // Acquire all the threads at once
+        final Set<TickThread> threads = threadEntitiesMap.keySet();
+        AcquirableImpl.enter(currentThread, threads);
+        List<Acquirable<E>> movedElements = null;
+        try {
             for (var entry : threadEntitiesMap.entrySet()) {
                 final TickThread tickThread = entry.getKey();
-                final List<E> values = entry.getValue();
-
-                var lock = AcquirableImpl.enter(currentThread, tickThread);
-                for (E value : values) {
-                    consumer.accept(value);
+                final List<Acquirable<E>> values = entry.getValue();
+                for (Acquirable<E> value : values) {
+                    if (value.getHandler().getTickThread() != tickThread) {
+                        // The element has been moved to another thread during the acquisition
+                        if (movedElements == null) movedElements = new ArrayList<>();
+                        movedElements.add(value);
+                        continue;
+                    }
+                    consumer.accept(value.unwrap());
                 }
-                AcquirableImpl.leave(lock);
             }
+        } finally {
+            AcquirableImpl.leave(threads);
+        }
+
+        // Acquire the moved elements individually
+        if (movedElements != null) {
+            movedElements.forEach(acquirable -> acquirable.sync(consumer));
         }
     }
 
@@ -121,24 +137,22 @@ public class AcquirableCollection<E> implements Collection<Acquirable<E>> {
      * @param consumer      the consumer to execute when an element is already in the current thread
      * @return a new Thread to acquirable elements map
      */
-    protected static <T> Map<TickThread, List<T>> retrieveOptionalThreadMap(@NotNull Collection<Acquirable<T>> collection,
-                                                                            @NotNull Thread currentThread,
-                                                                            @NotNull Consumer<T> consumer) {
+    protected static <T> Map<TickThread, List<Acquirable<T>>> retrieveOptionalThreadMap(@NotNull Collection<Acquirable<T>> collection,
+                                                                                        @NotNull Thread currentThread,
+                                                                                        @NotNull Consumer<T> consumer) {
         // Separate a collection of acquirable elements into a map of thread->elements
         // Useful to reduce the number of acquisition
 
-        Map<TickThread, List<T>> threadCacheMap = new HashMap<>();
+        Map<TickThread, List<Acquirable<T>>> threadCacheMap = new HashMap<>();
         for (var element : collection) {
-            final T value = element.unwrap();
-
             final TickThread elementThread = element.getHandler().getTickThread();
             if (currentThread == elementThread) {
                 // The element is managed in the current thread, consumer can be immediately called
-                consumer.accept(value);
+                consumer.accept(element.unwrap());
             } else {
                 // The element is manager in a different thread, cache it
-                List<T> threadCacheList = threadCacheMap.computeIfAbsent(elementThread, tickThread -> new ArrayList<>());
-                threadCacheList.add(value);
+                List<Acquirable<T>> threadCacheList = threadCacheMap.computeIfAbsent(elementThread, tickThread -> new ArrayList<>());
+                threadCacheList.add(element);
             }
         }
 
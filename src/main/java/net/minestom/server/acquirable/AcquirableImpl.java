@@ -1,12 +1,14 @@
 package net.minestom.server.acquirable;
 
+import net.minestom.server.monitoring.LockContention;
 import net.minestom.server.thread.ThreadProvider;
 import net.minestom.server.thread.TickThread;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -16,9 +18,24 @@ class AcquirableImpl<T> implements Acquirable<T> {
     protected static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
 
     /**
-     * Global lock used for synchronization.
+     * Tick threads acquired by the current thread, ordered by thread id.
+     * <p>
+     * Does not contain the current tick thread, its lock being held during the whole tick.
      */
-    private static final ReentrantLock GLOBAL_LOCK = new ReentrantLock();
+    private static final ThreadLocal<List<TickThread>> ACQUIRED_THREADS = ThreadLocal.withInitial(ArrayList::new);
+    /**
+     * Reused by {@link #enter(Thread, Collection)} to sort the threads to acquire.
+     */
+    private static final ThreadLocal<List<TickThread>> SORTED_THREADS = ThreadLocal.withInitial(ArrayList::new);
+    /**
+     * Order in which the thread locks must be acquired to prevent deadlocks.
+     */
+    private static final Comparator<TickThread> LOCK_ORDER = Comparator.comparingLong(Thread::getId);
+    /**
+     * Time between two checks for a deadlock while waiting for a lock ordered before the held ones.
+     */
+    private static final long BACKOFF_CHECK_INTERVAL = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final Map<Long, ContentionCounter> CONTENTION_MAP = new ConcurrentHashMap<>();
 
     private final T value;
     private final Acquirable.Handler handler;
@@ -38,41 +55,241 @@ class AcquirableImpl<T> implements Acquirable<T> {
         return handler;
     }
 
-    protected static @Nullable ReentrantLock enter(@Nullable Thread currentThread, @Nullable TickThread elementThread) {
+    /**
+     * Acquires the lock of a thread, blocking until it is available.
+     * <p>
+     * A lock ordered after all the held ones is simply waited for. The others are waited for until another thread
+     * waits for one of the held locks, the held locks (including the one of the current {@link TickThread})
+     * are then released and acquired back following the lock order, see {@link #backOff(TickThread, List, TickThread)}.
+     *
+     * @param currentThread the current thread
+     * @param elementThread the thread to acquire, null to do nothing
+     */
+    protected static void enter(@Nullable Thread currentThread, @Nullable TickThread elementThread) {
+        if (elementThread == null)
+            return;
+        // Monitoring
+        final long time = System.nanoTime();
+        lock(currentThread, elementThread);
+        AcquirableImpl.WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
+    }
+
+    /**
+     * Acquires the locks of multiple threads following the lock order, see {@link #enter(Thread, TickThread)}.
+     *
+     * @param currentThread  the current thread
+     * @param elementThreads the threads to acquire, null elements are ignored
+     */
+    protected static void enter(@Nullable Thread currentThread, @NotNull Collection<TickThread> elementThreads) {
+        // Monitoring
+        final long time = System.nanoTime();
+
+        final List<TickThread> sortedThreads = SORTED_THREADS.get();
+        for (TickThread elementThread : elementThreads) {
+            if (elementThread != null) {
+                sortedThreads.add(elementThread);
+            }
+        }
+        sortedThreads.sort(LOCK_ORDER);
+        try {
+            for (int i = 0; i < sortedThreads.size(); i++) {
+                lock(currentThread, sortedThreads.get(i));
+            }
+        } finally {
+            sortedThreads.clear();
+        }
+
         // Monitoring
-        long time = System.nanoTime();
-
-        ReentrantLock currentLock;
-        {
-            final TickThread current = currentThread instanceof TickThread ?
-                    (TickThread) currentThread : null;
-            currentLock = current != null && current.getLock().isHeldByCurrentThread() ?
-                    current.getLock() : null;
+        AcquirableImpl.WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
+    }
+
+    /**
+     * Same as {@link #enter(Thread, TickThread)} but ensures that the element did not
+     * change thread during the acquisition (e.g. stolen by another {@link TickThread}).
+     *
+     * @param currentThread the current thread
+     * @param handler       the handler of the element to acquire
+     * @return the acquired thread, null if not any
+     */
+    protected static @Nullable TickThread enter(@Nullable Thread currentThread, @NotNull Acquirable.Handler handler) {
+        while (true) {
+            final TickThread elementThread = handler.getTickThread();
+            enter(currentThread, elementThread);
+            if (handler.getTickThread() == elementThread)
+                return elementThread;
+            // The element has been moved during the acquisition, retry
+            leave(elementThread);
         }
-        if (currentLock != null)
-            currentLock.unlock();
+    }
 
-        GLOBAL_LOCK.lock();
+    protected static void leave(@Nullable TickThread elementThread) {
+        if (elementThread != null) {
+            unlock(elementThread);
+        }
+    }
 
-        if (currentLock != null)
-            currentLock.lock();
+    protected static void leave(@NotNull Collection<TickThread> elementThreads) {
+        for (TickThread elementThread : elementThreads) {
+            if (elementThread != null) {
+                unlock(elementThread);
+            }
+        }
+    }
 
-        final var lock = elementThread != null ? elementThread.getLock() : null;
-        final boolean acquired = lock == null || lock.isHeldByCurrentThread();
-        if (!acquired) {
+    protected static @NotNull List<LockContention> getContentions() {
+        List<LockContention> contentions = new ArrayList<>(CONTENTION_MAP.size());
+        for (ContentionCounter counter : CONTENTION_MAP.values()) {
+            final long count = counter.count.get();
+            if (count == 0)
+                continue;
+            contentions.add(new LockContention(counter.acquirerName, counter.ownerName,
+                    count, counter.time.get() / 1e6D));
+        }
+        return contentions;
+    }
+
+    protected static void resetContentions() {
+        CONTENTION_MAP.clear();
+    }
+
+    private static void lock(@Nullable Thread currentThread, @NotNull TickThread thread) {
+        final ReentrantLock lock = thread.getLock();
+        if (lock.isHeldByCurrentThread()) {
+            // Already acquired
             lock.lock();
+            return;
         }
+        final List<TickThread> acquiredThreads = ACQUIRED_THREADS.get();
+        if (!lock.tryLock()) {
+            // Lock is owned by another thread, register the contention
+            final TickThread current = currentThread instanceof TickThread &&
+                    ((TickThread) currentThread).getLock().isHeldByCurrentThread() ? (TickThread) currentThread : null;
+            final long time = System.nanoTime();
+            if (isOrdered(thread, acquiredThreads, current)) {
+                lock.lock();
+            } else if (!awaitSafePoint(lock, acquiredThreads, current)) {
+                backOff(thread, acquiredThreads, current);
+            }
+            recordContention(currentThread, thread, System.nanoTime() - time);
+        }
+        // Keep the acquired threads ordered
+        int index = acquiredThreads.size();
+        while (index > 0 && LOCK_ORDER.compare(acquiredThreads.get(index - 1), thread) > 0) {
+            index--;
+        }
+        acquiredThreads.add(index, thread);
+    }
 
-        // Monitoring
-        AcquirableImpl.WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
+    private static void unlock(@NotNull TickThread thread) {
+        final ReentrantLock lock = thread.getLock();
+        if (lock.getHoldCount() == 1) {
+            ACQUIRED_THREADS.get().remove(thread);
+        }
+        lock.unlock();
+    }
 
-        return !acquired ? lock : null;
+    /**
+     * Gets if a lock can be waited for without breaking the lock order.
+     *
+     * @param thread          the thread to acquire
+     * @param acquiredThreads the threads acquired by the current thread
+     * @param current         the current tick thread if its lock is held, null otherwise
+     * @return true if {@code thread} is ordered after all the held locks
+     */
+    private static boolean isOrdered(@NotNull TickThread thread, @NotNull List<TickThread> acquiredThreads,
+                                     @Nullable TickThread current) {
+        if (current != null && LOCK_ORDER.compare(thread, current) < 0)
+            return false;
+        return acquiredThreads.isEmpty() ||
+                LOCK_ORDER.compare(thread, acquiredThreads.get(acquiredThreads.size() - 1)) > 0;
     }
 
-    protected static void leave(@Nullable ReentrantLock lock) {
-        if (lock != null) {
-            lock.unlock();
+    /**
+     * Waits for a lock ordered before the held ones, released by its owner at its next safe point
+     * (between two entities, see {@link ThreadProvider}).
+     * <p>
+     * Gives up as soon as another thread waits for one of the held locks, as it could be waiting for the current thread.
+     *
+     * @param lock            the lock to acquire
+     * @param acquiredThreads the threads acquired by the current thread
+     * @param current         the current tick thread if its lock is held, null otherwise
+     * @return true if the lock has been acquired, false if the held locks must be yielded
+     */
+    private static boolean awaitSafePoint(@NotNull ReentrantLock lock, @NotNull List<TickThread> acquiredThreads,
+                                          @Nullable TickThread current) {
+        try {
+            while (!lock.tryLock(BACKOFF_CHECK_INTERVAL, TimeUnit.NANOSECONDS)) {
+                if (current != null && current.getLock().hasQueuedThreads())
+                    return false;
+                for (int i = 0; i < acquiredThreads.size(); i++) {
+                    if (acquiredThreads.get(i).getLock().hasQueuedThreads())
+                        return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Breaks a potential deadlock by yielding the held locks, the current thread acting as if it reached a safe point
+     * (like a {@link TickThread} between two entities): the held locks, including the one of the current tick thread,
+     * are fully released then acquired back with {@code thread} following the lock order.
+     * <p>
+     * The elements of the yielded threads can be modified by their waiting acquirers before this method returns.
+     *
+     * @param thread          the thread to acquire
+     * @param acquiredThreads the threads acquired by the current thread, unchanged
+     * @param current         the current tick thread if its lock is held, null otherwise
+     */
+    private static void backOff(@NotNull TickThread thread, @NotNull List<TickThread> acquiredThreads,
+                                @Nullable TickThread current) {
+        final List<TickThread> threads = new ArrayList<>(acquiredThreads.size() + 2);
+        threads.addAll(acquiredThreads);
+        if (current != null) {
+            threads.add(current);
+        }
+        threads.add(thread);
+        threads.sort(LOCK_ORDER);
+
+        final int[] holdCounts = new int[threads.size()];
+        for (int i = threads.size() - 1; i >= 0; i--) {
+            final ReentrantLock lock = threads.get(i).getLock();
+            final int holdCount = lock.getHoldCount();
+            holdCounts[i] = holdCount;
+            for (int j = 0; j < holdCount; j++) {
+                lock.unlock();
+            }
+        }
+        // Nothing is held anymore, the locks can be waited for in order
+        for (int i = 0; i < threads.size(); i++) {
+            final ReentrantLock lock = threads.get(i).getLock();
+            final int holdCount = Math.max(1, holdCounts[i]);
+            for (int j = 0; j < holdCount; j++) {
+                lock.lock();
+            }
+        }
+    }
+
+    private static void recordContention(@Nullable Thread currentThread, @NotNull TickThread thread, long waitTime) {
+        final long acquirerId = currentThread != null ? currentThread.getId() : -1;
+        final long key = (acquirerId << 32) | (thread.getId() & 0xFFFFFFFFL);
+        ContentionCounter counter = CONTENTION_MAP.computeIfAbsent(key, k ->
+                new ContentionCounter(currentThread != null ? currentThread.getName() : "unknown", thread.getName()));
+        counter.count.incrementAndGet();
+        counter.time.addAndGet(waitTime);
+    }
+
+    private static final class ContentionCounter {
+        private final String acquirerName, ownerName;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong time = new AtomicLong();
+
+        private ContentionCounter(String acquirerName, String ownerName) {
+            this.acquirerName = acquirerName;
+            this.ownerName = ownerName;
         }
-        GLOBAL_LOCK.unlock();
     }
 }
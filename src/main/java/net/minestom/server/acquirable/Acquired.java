@@ -4,14 +4,12 @@ import net.minestom.server.thread.TickThread;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.locks.ReentrantLock;
-
 public class Acquired<T> {
 
     private final T value;
 
     private final boolean locked;
-    private final ReentrantLock lock;
+    private final TickThread thread;
 
     private boolean unlocked;
 
@@ -21,15 +19,14 @@ public class Acquired<T> {
 
     protected static <T> Acquired<T> locked(@NotNull Acquirable<T> acquirable) {
         final Thread currentThread = Thread.currentThread();
-        final TickThread tickThread = acquirable.getHandler().getTickThread();
-        return new Acquired<>(acquirable.unwrap(), true, currentThread, tickThread);
+        return new Acquired<>(acquirable.unwrap(), true, currentThread, acquirable.getHandler());
     }
 
     private Acquired(@NotNull T value,
-                     boolean locked, Thread currentThread, TickThread tickThread) {
+                     boolean locked, Thread currentThread, Acquirable.Handler handler) {
         this.value = value;
         this.locked = locked;
-        this.lock = locked ? AcquirableImpl.enter(currentThread, tickThread) : null;
+        this.thread = locked ? AcquirableImpl.enter(currentThread, handler) : null;
     }
 
     public @NotNull T get() {
@@ -42,7 +39,7 @@ public class Acquired<T> {
         this.unlocked = true;
         if (!locked)
             return;
-        AcquirableImpl.leave(lock);
+        AcquirableImpl.leave(thread);
     }
 
     private void checkLock() {
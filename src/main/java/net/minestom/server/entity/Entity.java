@@ -16,6 +16,7 @@ import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.data.Data;
 import net.minestom.server.data.DataContainer;
+import net.minestom.server.entity.ai.EntityAI;
 import net.minestom.server.entity.metadata.EntityMeta;
 import net.minestom.server.event.EventCallback;
 import net.minestom.server.event.EventDispatcher;
@@ -133,6 +134,11 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Da
     // Tick related
     private long ticks;
     private final EntityTickEvent tickEvent = new EntityTickEvent(this);
+    // Number of ticks between two tier refreshes when in the full tier
+    private static final int TICK_TIER_REFRESH_INTERVAL = 10;
+    private EntityTickTier tickTier = EntityTickTier.FULL;
+    private EntityTickTier forcedTickTier;
+    private int skippedTicks;
 
     private final Acquirable<Entity> acquirable = Acquirable.of(this);
 
@@ -760,6 +766,70 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Da
         return ticks;
     }
 
+    /**
+     * Gets how often this entity is ticked, only used if {@link ThreadProvider#isEntityTickTiering()} is enabled.
+     *
+     * @return the entity tick tier
+     */
+    public @NotNull EntityTickTier getTickTier() {
+        return tickTier;
+    }
+
+    /**
+     * Forces the tick tier of this entity.
+     *
+     * @param tickTier the new tick tier, null to compute it using {@link #computeTickTier(double)}
+     */
+    public void setTickTier(@Nullable EntityTickTier tickTier) {
+        this.forcedTickTier = tickTier;
+        this.tickTier = tickTier != null ? tickTier : computeTickTier(
+                MinecraftServer.getUpdateManager().getThreadProvider().getFullTickDistance());
+    }
+
+    /**
+     * Computes the tick tier of this entity, called regularly unless forced using {@link #setTickTier(EntityTickTier)}.
+     * <p>
+     * Players (including fake ones) and moving entities are always in the full tier. Others are in the reduced tier unless they have an AI
+     * and are close to a viewer, entities without viewers are dormant.
+     *
+     * @param fullTickDistance the distance to the nearest viewer under which AI entities are in the full tier
+     * @return the tick tier of this entity
+     */
+    protected @NotNull EntityTickTier computeTickTier(double fullTickDistance) {
+        if (this instanceof Player || hasVelocity() || (!onGround && !hasNoGravity()))
+            return EntityTickTier.FULL;
+        if (viewers.isEmpty())
+            return EntityTickTier.DORMANT;
+        if (!(this instanceof EntityAI))
+            return EntityTickTier.REDUCED;
+        final double maxDistance = fullTickDistance * fullTickDistance;
+        for (Player viewer : viewers) {
+            if (getDistanceSquared(viewer) <= maxDistance)
+                return EntityTickTier.FULL;
+        }
+        return EntityTickTier.REDUCED;
+    }
+
+    /**
+     * Ticks the entity if enough ticks have been skipped based on its {@link #getTickTier() tier}.
+     *
+     * @param time     the update time in milliseconds
+     * @param interval the number of ticks between two updates of the entity tier
+     * @param defer    true to delay the update of entities not in the full tier
+     * @return true if the entity has been ticked
+     */
+    @ApiStatus.Internal
+    public boolean tickTiered(long time, int interval, boolean defer) {
+        if (++skippedTicks < interval || (defer && tickTier != EntityTickTier.FULL))
+            return false;
+        this.skippedTicks = 0;
+        tick(time);
+        if (forcedTickTier == null && (tickTier != EntityTickTier.FULL || ticks % TICK_TIER_REFRESH_INTERVAL == 0)) {
+            this.tickTier = computeTickTier(MinecraftServer.getUpdateManager().getThreadProvider().getFullTickDistance());
+        }
+        return true;
+    }
+
     /**
      * How does this entity handle being in the void?
      */
@@ -952,6 +1022,11 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Da
         EventDispatcher.callCancellable(entityVelocityEvent, () -> {
             this.velocity.copy(entityVelocityEvent.getVelocity());
             sendPacketToViewersAndSelf(getVelocityPacket());
+            if (forcedTickTier == null) {
+                // Moving entities need to be ticked every tick
+                this.tickTier = EntityTickTier.FULL;
+                this.skippedTicks = 0;
+            }
         });
     }
 
@@ -0,0 +1,26 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.thread.ThreadProvider;
+
+/**
+ * Defines how often an {@link Entity} is ticked.
+ * <p>
+ * Only used if {@link ThreadProvider#isEntityTickTiering()} is enabled,
+ * the number of ticks between two entity updates is defined by {@link ThreadProvider#getTickInterval(EntityTickTier)}.
+ *
+ * @see Entity#getTickTier()
+ */
+public enum EntityTickTier {
+    /**
+     * The entity is ticked every tick.
+     */
+    FULL,
+    /**
+     * The entity is ticked every few ticks, and can be delayed when the tick thread is out of time.
+     */
+    REDUCED,
+    /**
+     * The entity is rarely ticked, and can be delayed when the tick thread is out of time.
+     */
+    DORMANT
+}
@@ -1,6 +1,6 @@
 package net.minestom.server.entity;
 
-import com.google.common.collect.Queues;
+import io.netty.util.internal.PlatformDependent;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.identity.Identified;
@@ -53,6 +53,8 @@ import net.minestom.server.message.Messenger;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PlayerProvider;
+import net.minestom.server.network.packet.client.ClientMovementCoalescer;
+import net.minestom.server.network.packet.client.ClientPacketPool;
 import net.minestom.server.network.packet.client.ClientPlayPacket;
 import net.minestom.server.network.packet.client.play.ClientChatMessagePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
@@ -119,7 +121,11 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private final AtomicInteger teleportId = new AtomicInteger();
     private int receivedTeleportId;
 
-    private final Queue<ClientPlayPacket> packets = Queues.newConcurrentLinkedQueue();
+    // Array backed, does not allocate a node for each received packet
+    private final Queue<ClientPlayPacket> packets = PlatformDependent.newMpscQueue();
+    // Null if inbound movements are not merged
+    private final ClientMovementCoalescer movementCoalescer = MinecraftServer.isInboundMovementCoalescing() ?
+            new ClientMovementCoalescer() : null;
     private final boolean levelFlat;
     private final PlayerSettings settings;
     private float exp;
@@ -321,11 +327,26 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     public void update(long time) {
         // Network tick
         this.playerConnection.update();
+        if (playerConnection instanceof NettyPlayerConnection) {
+            final NettyPlayerConnection nettyPlayerConnection = (NettyPlayerConnection) playerConnection;
+            if (nettyPlayerConnection.pollCongestionChange()) {
+                final boolean congested = nettyPlayerConnection.isCongested();
+                if (!congested) {
+                    // Relative movements may have been dropped
+                    synchronizeViewableEntities();
+                }
+                EventDispatcher.call(new PlayerCongestionEvent(this, congested));
+            }
+        }
 
         // Process received packets
         ClientPlayPacket packet;
         while ((packet = packets.poll()) != null) {
+            if (movementCoalescer != null && ClientMovementCoalescer.isMovement(packet)) {
+                packet = movementCoalescer.coalesce(packet, packets);
+            }
             packet.process(this);
+            ClientPacketPool.release(packet);
         }
 
         super.update(time); // Super update (item pickup/fire management)
@@ -1575,6 +1596,22 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
         }
     }
 
+    /**
+     * Sends the absolute position of all the entities viewed by the player.
+     * <p>
+     * Used when relative movements have been dropped by a congested connection.
+     */
+    @ApiStatus.Internal
+    public void synchronizeViewableEntities() {
+        for (Entity entity : viewableEntities) {
+            EntityTeleportPacket entityTeleportPacket = new EntityTeleportPacket();
+            entityTeleportPacket.entityId = entity.getEntityId();
+            entityTeleportPacket.position = entity.getPosition().clone();
+            entityTeleportPacket.onGround = entity.isOnGround();
+            playerConnection.sendPacket(entityTeleportPacket);
+        }
+    }
+
     /**
      * Refreshes the list of entities that the player should be able to see based
      * on {@link MinecraftServer#getEntityViewDistance()} and {@link Entity#isAutoViewable()}.
@@ -0,0 +1,41 @@
+package net.minestom.server.event.player;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.trait.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called when the connection of a player becomes congested, because the client does not read packets
+ * as fast as they are sent, or when it recovers.
+ * <p>
+ * Packets with a {@link net.minestom.server.network.packet.server.PacketPriority#LOW low priority}
+ * are dropped while the connection is congested.
+ * <p>
+ * Called from the tick thread of the player, during the first tick following the change.
+ *
+ * @see net.minestom.server.network.player.NettyPlayerConnection#isCongested()
+ */
+public class PlayerCongestionEvent implements PlayerEvent {
+
+    private final Player player;
+    private final boolean congested;
+
+    public PlayerCongestionEvent(@NotNull Player player, boolean congested) {
+        this.player = player;
+        this.congested = congested;
+    }
+
+    @Override
+    public @NotNull Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets if the connection became congested or recovered.
+     *
+     * @return true if the connection is now congested
+     */
+    public boolean isCongested() {
+        return congested;
+    }
+}
@@ -6,6 +6,12 @@ import net.minestom.server.event.trait.PlayerEvent;
 import net.minestom.server.network.packet.client.ClientPacket;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Called when a packet received from a player is processed.
+ * <p>
+ * Frequent packets (e.g. movements) are reused once processed,
+ * the packet must not be referenced after the event.
+ */
 public class PlayerPacketEvent implements PlayerEvent, CancellableEvent {
 
     private final Player player;
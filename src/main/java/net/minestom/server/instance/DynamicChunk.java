@@ -1,6 +1,7 @@
 package net.minestom.server.instance;
 
 import com.extollit.gaming.ai.path.model.ColumnarOcclusionFieldList;
+import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.ints.*;
 import it.unimi.dsi.fastutil.objects.Object2ShortMap;
 import it.unimi.dsi.fastutil.objects.Object2ShortOpenHashMap;
@@ -219,85 +220,81 @@ public class DynamicChunk extends Chunk {
         // Used for blocks data (unused if empty at the end)
         Object2ShortMap<String> typeToIndexMap = new Object2ShortOpenHashMap<>();
 
-        // Order of buffers in the final serialized array
-        BinaryWriter versionWriter = new BinaryWriter();
-        BinaryWriter dataIndexWriter = new BinaryWriter();
-        BinaryWriter chunkWriter = new BinaryWriter();
+        // The chunk data is written first since it fills the data index written before it
+        try (BinaryWriter headerWriter = BinaryWriter.pooled(); BinaryWriter chunkWriter = BinaryWriter.pooled()) {
+            writeChunkData(chunkWriter, typeToIndexMap);
 
-        // VERSION WRITER
-        {
-            versionWriter.writeInt(DATA_FORMAT_VERSION);
-            versionWriter.writeInt(MinecraftServer.PROTOCOL_VERSION);
-        }
-
-        // CHUNK DATA WRITER
-        {
-            // Chunk data
-            final boolean hasChunkData = data instanceof SerializableData && !data.isEmpty();
-            chunkWriter.writeBoolean(hasChunkData);
-            if (hasChunkData) {
-                // Get the un-indexed data
-                final byte[] serializedData = ((SerializableData) data).getSerializedData(typeToIndexMap, false);
-                chunkWriter.writeBytes(serializedData);
-            }
-
-            // Write the biomes id
-            for (int i = 0; i < 1024; i++) { // TODO variable biome count
-                final byte id = (byte) biomes[i].getId();
-                chunkWriter.writeByte(id);
-            }
+            // VERSION
+            headerWriter.writeInt(DATA_FORMAT_VERSION);
+            headerWriter.writeInt(MinecraftServer.PROTOCOL_VERSION);
 
-            // Loop all blocks
-            for (byte x = 0; x < CHUNK_SIZE_X; x++) {
-                for (short y = 0; y < 256; y++) { // TODO increase max size
-                    for (byte z = 0; z < CHUNK_SIZE_Z; z++) {
-                        final int index = getBlockIndex(x, y, z);
-
-                        final short blockStateId = getBlockAt(blockPalette, x, y, z);
-                        final short customBlockId = getBlockAt(customBlockPalette, x, y, z);
-
-                        // No block at the position
-                        if (blockStateId == 0 && customBlockId == 0)
-                            continue;
-
-                        // Chunk coordinates
-                        chunkWriter.writeShort((short) index);
-
-                        // Block ids
-                        chunkWriter.writeShort(blockStateId);
-                        chunkWriter.writeShort(customBlockId);
-
-                        // Data
-                        final Data data = getBlockData(index);
-                        final boolean hasBlockData = data instanceof SerializableData && !data.isEmpty();
-                        chunkWriter.writeBoolean(hasBlockData);
-                        if (hasBlockData) {
-                            // Get the un-indexed data
-                            final byte[] serializedData = ((SerializableData) data).getSerializedData(typeToIndexMap, false);
-                            chunkWriter.writeBytes(serializedData);
-                        }
-                    }
-                }
-            }
-        }
-
-        // DATA INDEX WRITER
-        {
+            // DATA INDEX
             // If the chunk data contains SerializableData type, it needs to be added in the header
             final boolean hasDataIndex = !typeToIndexMap.isEmpty();
-            dataIndexWriter.writeBoolean(hasDataIndex);
+            headerWriter.writeBoolean(hasDataIndex);
             if (hasDataIndex) {
                 // Get the index buffer (prefixed by true to say that the chunk contains data indexes)
-                SerializableData.writeDataIndexHeader(dataIndexWriter, typeToIndexMap);
+                SerializableData.writeDataIndexHeader(headerWriter, typeToIndexMap);
             }
+
+            // Copied once in the final array
+            final ByteBuf header = headerWriter.getBuffer();
+            final ByteBuf chunk = chunkWriter.getBuffer();
+            byte[] bytes = new byte[header.readableBytes() + chunk.readableBytes()];
+            header.getBytes(header.readerIndex(), bytes, 0, header.readableBytes());
+            chunk.getBytes(chunk.readerIndex(), bytes, header.readableBytes(), chunk.readableBytes());
+            return bytes;
         }
+    }
+
+    private void writeChunkData(@NotNull BinaryWriter chunkWriter, @NotNull Object2ShortMap<String> typeToIndexMap) {
+        // Chunk data
+        final boolean hasChunkData = data instanceof SerializableData && !data.isEmpty();
+        chunkWriter.writeBoolean(hasChunkData);
+        if (hasChunkData) {
+            // Get the un-indexed data
+            final byte[] serializedData = ((SerializableData) data).getSerializedData(typeToIndexMap, false);
+            chunkWriter.writeBytes(serializedData);
+        }
+
+        // Write the biomes id
+        for (int i = 0; i < 1024; i++) { // TODO variable biome count
+            final byte id = (byte) biomes[i].getId();
+            chunkWriter.writeByte(id);
+        }
+
+        // Loop all blocks
+        for (byte x = 0; x < CHUNK_SIZE_X; x++) {
+            for (short y = 0; y < 256; y++) { // TODO increase max size
+                for (byte z = 0; z < CHUNK_SIZE_Z; z++) {
+                    final int index = getBlockIndex(x, y, z);
+
+                    final short blockStateId = getBlockAt(blockPalette, x, y, z);
+                    final short customBlockId = getBlockAt(customBlockPalette, x, y, z);
 
-        final BinaryWriter finalBuffer = new BinaryWriter(
-                versionWriter.getBuffer(),
-                dataIndexWriter.getBuffer(),
-                chunkWriter.getBuffer());
+                    // No block at the position
+                    if (blockStateId == 0 && customBlockId == 0)
+                        continue;
 
-        return finalBuffer.toByteArray();
+                    // Chunk coordinates
+                    chunkWriter.writeShort((short) index);
+
+                    // Block ids
+                    chunkWriter.writeShort(blockStateId);
+                    chunkWriter.writeShort(customBlockId);
+
+                    // Data
+                    final Data data = getBlockData(index);
+                    final boolean hasBlockData = data instanceof SerializableData && !data.isEmpty();
+                    chunkWriter.writeBoolean(hasBlockData);
+                    if (hasBlockData) {
+                        // Get the un-indexed data
+                        final byte[] serializedData = ((SerializableData) data).getSerializedData(typeToIndexMap, false);
+                        chunkWriter.writeBytes(serializedData);
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -8,6 +8,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -51,7 +52,19 @@ public interface IChunkLoader {
      *                 Can be null.
      */
     default void saveChunks(@NotNull Collection<Chunk> chunks, @Nullable Runnable callback) {
-        if (supportsParallelSaving()) {
+        if (supportsParallelSaving() && MinecraftServer.isVirtualThreads()) {
+            // One virtual thread per chunk
+            final ExecutorService blockingPool = MinecraftServer.getSchedulerManager().getBlockingPool();
+            CompletableFuture.allOf(chunks.stream()
+                    .map(chunk -> CompletableFuture.runAsync(() -> saveChunk(chunk, null), blockingPool))
+                    .toArray(CompletableFuture[]::new))
+                    .whenComplete((unused, throwable) -> {
+                        if (throwable != null) {
+                            MinecraftServer.getExceptionManager().handleException(throwable);
+                        }
+                        OptionalCallback.execute(callback);
+                    });
+        } else if (supportsParallelSaving()) {
             ExecutorService parallelSavingThreadPool = new MinestomThread(MinecraftServer.THREAD_COUNT_PARALLEL_CHUNK_SAVING, MinecraftServer.THREAD_NAME_PARALLEL_CHUNK_SAVING, true);
             chunks.forEach(c -> parallelSavingThreadPool.execute(() -> saveChunk(c, null)));
             try {
@@ -85,6 +98,9 @@ public interface IChunkLoader {
 
     /**
      * Does this {@link IChunkLoader} allow for multi-threaded loading of {@link Chunk}?
+     * <p>
+     * If true and {@link MinecraftServer#isVirtualThreads()} is enabled, {@link InstanceContainer}
+     * loads chunks in {@link net.minestom.server.timer.SchedulerManager#getBlockingPool()}.
      *
      * @return true if the chunk loader supports parallel loading
      */
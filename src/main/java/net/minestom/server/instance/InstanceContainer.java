@@ -18,6 +18,7 @@ import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.storage.StorageLocation;
 import net.minestom.server.utils.BlockPosition;
 import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.Position;
 import net.minestom.server.utils.block.CustomBlockUtils;
 import net.minestom.server.utils.callback.OptionalCallback;
@@ -58,6 +59,8 @@ public class InstanceContainer extends Instance {
     private final Map<Long, Chunk> chunks = new ConcurrentHashMap<>();
     // contains all the chunks to remove during the next instance tick, should be synchronized
     protected final Set<Chunk> scheduledChunksToRemove = new HashSet<>();
+    // (chunk index -> callbacks) map of the chunks being loaded in the blocking pool, should be synchronized
+    private final Map<Long, List<ChunkCallback>> loadingChunks = new HashMap<>();
 
     private final ReadWriteLock changingBlockLock = new ReentrantReadWriteLock();
     private final Map<BlockPosition, Block> currentlyChangingBlocks = new HashMap<>();
@@ -505,6 +508,10 @@ public class InstanceContainer extends Instance {
 
     @Override
     protected void retrieveChunk(int chunkX, int chunkZ, @Nullable ChunkCallback callback) {
+        if (chunkLoader.supportsParallelLoading() && MinecraftServer.isVirtualThreads()) {
+            retrieveChunkAsync(chunkX, chunkZ, callback);
+            return;
+        }
         final boolean loaded = chunkLoader.loadChunk(this, chunkX, chunkZ, chunk -> {
             cacheChunk(chunk);
             UPDATE_MANAGER.signalChunkLoad(chunk);
@@ -521,6 +528,69 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Loads a chunk in {@link net.minestom.server.timer.SchedulerManager#getBlockingPool()},
+     * the chunk is created in the instance thread if not found by the chunk loader.
+     * <p>
+     * Requests for a chunk already being loaded only register their callback.
+     * If the chunk loader fails, the exception is given to the {@link net.minestom.server.exception.ExceptionManager}
+     * and the callbacks of the pending requests are dropped.
+     *
+     * @param chunkX   the chunk X
+     * @param chunkZ   the chunk Z
+     * @param callback the optional callback executed once the chunk is loaded
+     */
+    private void retrieveChunkAsync(int chunkX, int chunkZ, @Nullable ChunkCallback callback) {
+        final long index = ChunkUtils.getChunkIndex(chunkX, chunkZ);
+        synchronized (loadingChunks) {
+            List<ChunkCallback> callbacks = loadingChunks.get(index);
+            if (callbacks != null) {
+                // Already loading
+                if (callback != null) callbacks.add(callback);
+                return;
+            }
+            callbacks = new ArrayList<>(1);
+            if (callback != null) callbacks.add(callback);
+            this.loadingChunks.put(index, callbacks);
+        }
+
+        final ChunkCallback loadingCallback = chunk -> {
+            final List<ChunkCallback> callbacks;
+            synchronized (loadingChunks) {
+                callbacks = loadingChunks.remove(index);
+            }
+            if (callbacks != null) {
+                callbacks.forEach(chunkCallback -> chunkCallback.accept(chunk));
+            }
+        };
+        AsyncUtils.runBlocking(() -> {
+            final boolean loaded;
+            try {
+                loaded = chunkLoader.loadChunk(this, chunkX, chunkZ, chunk -> {
+                    cacheChunk(chunk);
+                    UPDATE_MANAGER.signalChunkLoad(chunk);
+                    // Execute callback and event in the instance thread
+                    scheduleNextTick(instance -> {
+                        callChunkLoadEvent(chunkX, chunkZ);
+                        loadingCallback.accept(chunk);
+                    });
+                });
+            } catch (Exception e) {
+                // Do not replace a chunk which may exist, the next request retries the load
+                synchronized (loadingChunks) {
+                    this.loadingChunks.remove(index);
+                }
+                MinecraftServer.getExceptionManager().handleException(e);
+                return;
+            }
+
+            if (!loaded) {
+                // Not found, create a new chunk in the instance thread
+                scheduleNextTick(instance -> createChunk(chunkX, chunkZ, loadingCallback));
+            }
+        });
+    }
+
     @Override
     protected void createChunk(int chunkX, int chunkZ, @Nullable ChunkCallback callback) {
         Biome[] biomes = new Biome[Biome.getBiomeCount(getDimensionType())];
@@ -19,6 +19,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 public final class InstanceManager {
 
     private final Set<Instance> instances = new CopyOnWriteArraySet<>();
+    private final Set<Instance> unmodifiableInstances = Collections.unmodifiableSet(instances);
 
     /**
      * Registers an {@link Instance} internally.
@@ -151,7 +152,7 @@ public final class InstanceManager {
      */
     @NotNull
     public Set<Instance> getInstances() {
-        return Collections.unmodifiableSet(instances);
+        return unmodifiableInstances;
     }
 
     /**
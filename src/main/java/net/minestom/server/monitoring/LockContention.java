@@ -0,0 +1,58 @@
+package net.minestom.server.monitoring;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the time spent by a thread waiting for the lock of a {@link net.minestom.server.thread.TickThread}
+ * during {@link net.minestom.server.acquirable.Acquirable} acquisitions.
+ */
+public class LockContention {
+
+    private final String acquirerThread;
+    private final String ownerThread;
+    private final long count;
+    private final double waitTime;
+
+    public LockContention(@NotNull String acquirerThread, @NotNull String ownerThread, long count, double waitTime) {
+        this.acquirerThread = acquirerThread;
+        this.ownerThread = ownerThread;
+        this.count = count;
+        this.waitTime = waitTime;
+    }
+
+    /**
+     * Gets the name of the thread which tried to acquire the lock.
+     *
+     * @return the acquirer thread name
+     */
+    public @NotNull String getAcquirerThread() {
+        return acquirerThread;
+    }
+
+    /**
+     * Gets the name of the tick thread owning the lock.
+     *
+     * @return the owner thread name
+     */
+    public @NotNull String getOwnerThread() {
+        return ownerThread;
+    }
+
+    /**
+     * Gets the number of acquisitions which had to wait.
+     *
+     * @return the contended acquisition count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the total time spent waiting.
+     *
+     * @return the wait time in milliseconds
+     */
+    public double getWaitTime() {
+        return waitTime;
+    }
+}
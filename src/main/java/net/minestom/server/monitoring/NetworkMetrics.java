@@ -0,0 +1,161 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.network.player.NettyPlayerConnection;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the packets sent and received by the server, per packet id.
+ * <p>
+ * Counters are striped ({@link LongAdder}) so the netty and tick threads can record at the same time without contention.
+ * Packet ids are not unique across connection states, packets of the login and status states are recorded with the play ones.
+ * The traffic of each connection is available from {@link NettyPlayerConnection#getSentBytes()} and
+ * {@link NettyPlayerConnection#getReceivedBytes()}.
+ * <p>
+ * Disabled by default, enabled with {@link #setEnabled(boolean)} or the {@code minestom.network-metrics} system property.
+ *
+ * @see net.minestom.server.MinecraftServer#getNetworkMetrics()
+ */
+public final class NetworkMetrics {
+
+    private static final int PACKET_ID_COUNT = 256;
+
+    private volatile boolean enabled = Boolean.getBoolean("minestom.network-metrics");
+
+    private final LongAdder[] outboundCounts = createCounters();
+    private final LongAdder[] outboundBytes = createCounters();
+    private final LongAdder[] outboundUncompressedBytes = createCounters();
+    private final LongAdder[] outboundEncodeTimes = createCounters();
+
+    private final LongAdder[] inboundCounts = createCounters();
+    private final LongAdder[] inboundBytes = createCounters();
+
+    private final LongAdder flushedBytes = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the recording, existing measures are kept.
+     *
+     * @param enabled true to record the network traffic
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records an encoded packet.
+     *
+     * @param packetId          the packet id
+     * @param bytes             the framed packet size
+     * @param uncompressedBytes the packet size before compression
+     * @param encodeTime        the time spent writing and compressing the packet in nanoseconds
+     */
+    @ApiStatus.Internal
+    public void recordOutbound(int packetId, int bytes, int uncompressedBytes, long encodeTime) {
+        if (!isValid(packetId))
+            return;
+        this.outboundCounts[packetId].increment();
+        this.outboundBytes[packetId].add(bytes);
+        this.outboundUncompressedBytes[packetId].add(uncompressedBytes);
+        this.outboundEncodeTimes[packetId].add(encodeTime);
+    }
+
+    /**
+     * Records a decoded packet.
+     *
+     * @param packetId the packet id
+     * @param bytes    the packet size, after decompression
+     */
+    @ApiStatus.Internal
+    public void recordInbound(int packetId, int bytes) {
+        if (!isValid(packetId))
+            return;
+        this.inboundCounts[packetId].increment();
+        this.inboundBytes[packetId].add(bytes);
+    }
+
+    /**
+     * Records the packets written to a channel at once.
+     *
+     * @param bytes the size of the written buffer
+     */
+    @ApiStatus.Internal
+    public void recordFlush(int bytes) {
+        this.flushedBytes.add(bytes);
+        this.flushCount.increment();
+    }
+
+    /**
+     * Gets the traffic of each packet id sent at least once.
+     * <p>
+     * Grouped packets are encoded once and counted once, whatever their number of receivers.
+     *
+     * @return the metrics of the sent packets
+     */
+    public @NotNull List<@NotNull PacketMetrics> getOutboundPackets() {
+        List<PacketMetrics> packets = new ArrayList<>();
+        for (int id = 0; id < PACKET_ID_COUNT; id++) {
+            final long count = outboundCounts[id].sum();
+            if (count == 0)
+                continue;
+            packets.add(new PacketMetrics(id, count, outboundBytes[id].sum(),
+                    outboundUncompressedBytes[id].sum(), outboundEncodeTimes[id].sum() / 1e6D));
+        }
+        return packets;
+    }
+
+    /**
+     * Gets the traffic of each packet id received at least once.
+     *
+     * @return the metrics of the received packets
+     */
+    public @NotNull List<@NotNull PacketMetrics> getInboundPackets() {
+        List<PacketMetrics> packets = new ArrayList<>();
+        for (int id = 0; id < PACKET_ID_COUNT; id++) {
+            final long count = inboundCounts[id].sum();
+            if (count == 0)
+                continue;
+            final long bytes = inboundBytes[id].sum();
+            packets.add(new PacketMetrics(id, count, bytes, bytes, 0));
+        }
+        return packets;
+    }
+
+    /**
+     * Gets the number of bytes written to all the channels, grouped packets being counted for each receiver.
+     *
+     * @return the flushed bytes
+     */
+    public long getFlushedBytes() {
+        return flushedBytes.sum();
+    }
+
+    /**
+     * Gets the number of writes to the channels, each of them containing all the packets waiting to be sent.
+     *
+     * @return the flush count
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    private static boolean isValid(int packetId) {
+        return packetId >= 0 && packetId < PACKET_ID_COUNT;
+    }
+
+    private static LongAdder[] createCounters() {
+        LongAdder[] counters = new LongAdder[PACKET_ID_COUNT];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,57 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the time spent encoding and compressing a type of packet
+ * in the {@link net.minestom.server.network.netty.PacketEncodingStage}.
+ */
+public class PacketEncodeTime {
+
+    private final Class<? extends ServerPacket> packetType;
+    private final long count;
+    private final double encodeTime;
+
+    public PacketEncodeTime(@NotNull Class<? extends ServerPacket> packetType, long count, double encodeTime) {
+        this.packetType = packetType;
+        this.count = count;
+        this.encodeTime = encodeTime;
+    }
+
+    /**
+     * Gets the type of the encoded packets.
+     *
+     * @return the packet type
+     */
+    public @NotNull Class<? extends ServerPacket> getPacketType() {
+        return packetType;
+    }
+
+    /**
+     * Gets the number of encoded packets.
+     *
+     * @return the encoded packet count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the total time spent encoding the packets.
+     *
+     * @return the encode time in milliseconds
+     */
+    public double getEncodeTime() {
+        return encodeTime;
+    }
+
+    /**
+     * Gets the average time spent encoding a single packet.
+     *
+     * @return the average encode time in milliseconds
+     */
+    public double getAverageEncodeTime() {
+        return count != 0 ? encodeTime / count : 0;
+    }
+}
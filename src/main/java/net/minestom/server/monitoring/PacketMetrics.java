@@ -0,0 +1,72 @@
+package net.minestom.server.monitoring;
+
+/**
+ * Represents the traffic of a packet id since the server started, see {@link NetworkMetrics}.
+ */
+public class PacketMetrics {
+
+    private final int packetId;
+    private final long count;
+    private final long bytes;
+    private final long uncompressedBytes;
+    private final double encodeTime;
+
+    public PacketMetrics(int packetId, long count, long bytes, long uncompressedBytes, double encodeTime) {
+        this.packetId = packetId;
+        this.count = count;
+        this.bytes = bytes;
+        this.uncompressedBytes = uncompressedBytes;
+        this.encodeTime = encodeTime;
+    }
+
+    public int getPacketId() {
+        return packetId;
+    }
+
+    /**
+     * Gets the number of packets.
+     *
+     * @return the packet count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the size of the packets as sent or received, after compression.
+     * <p>
+     * Received packets are measured after being decompressed and are equal to {@link #getUncompressedBytes()}.
+     *
+     * @return the size of the packets in bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the size of the packets before compression.
+     *
+     * @return the uncompressed size of the packets in bytes
+     */
+    public long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    /**
+     * Gets the compressed size divided by the uncompressed size.
+     *
+     * @return the compression ratio, 1 if the packets are not compressed
+     */
+    public double getCompressionRatio() {
+        return uncompressedBytes != 0 ? (double) bytes / uncompressedBytes : 1;
+    }
+
+    /**
+     * Gets the total time spent writing and compressing the packets, always 0 for received packets.
+     *
+     * @return the encode time in milliseconds
+     */
+    public double getEncodeTime() {
+        return encodeTime;
+    }
+}
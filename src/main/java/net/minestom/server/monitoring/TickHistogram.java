@@ -0,0 +1,175 @@
+package net.minestom.server.monitoring;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Histogram of tick durations, with a precision of 12.5%.
+ * <p>
+ * Can be registered as a tick monitor using {@link net.minestom.server.UpdateManager#addTickMonitor(Consumer)}
+ * to record a production load profile, then compared to the one of a {@link net.minestom.server.simulation.Simulation}.
+ */
+public final class TickHistogram implements Consumer<TickMonitor> {
+
+    // Each power of two is split into 2^SUB_BUCKET_BITS linear buckets
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalTime;
+    private long maxTime;
+
+    /**
+     * Records a tick duration.
+     *
+     * @param nanos the tick duration in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        this.counts[getBucketIndex(nanos)]++;
+        this.totalCount++;
+        this.totalTime += nanos;
+        this.maxTime = Math.max(maxTime, nanos);
+    }
+
+    @Override
+    public void accept(@NotNull TickMonitor tickMonitor) {
+        record((long) (tickMonitor.getTickTime() * 1e6));
+    }
+
+    /**
+     * Gets the number of recorded ticks.
+     *
+     * @return the tick count
+     */
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the mean tick duration.
+     *
+     * @return the mean tick duration in nanoseconds, 0 if no tick has been recorded
+     */
+    public synchronized double getMean() {
+        return totalCount != 0 ? (double) totalTime / totalCount : 0;
+    }
+
+    /**
+     * Gets the longest tick duration.
+     *
+     * @return the max tick duration in nanoseconds
+     */
+    public synchronized long getMax() {
+        return maxTime;
+    }
+
+    /**
+     * Gets the tick duration under which {@code percentile}% of the ticks are.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile in nanoseconds
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        final long target = (long) Math.ceil(totalCount * Math.min(Math.max(percentile, 0), 100) / 100);
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts[i];
+            if (count >= target && count != 0) {
+                return Math.min(getBucketUpperBound(i), maxTime);
+            }
+        }
+        return maxTime;
+    }
+
+    /**
+     * Executes a consumer for each non-empty bucket, from the shortest to the longest ticks.
+     *
+     * @param consumer the bucket consumer
+     */
+    public synchronized void forEachBucket(@NotNull BucketConsumer consumer) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long count = counts[i];
+            if (count != 0) {
+                consumer.accept(getBucketLowerBound(i), getBucketUpperBound(i), count);
+            }
+        }
+    }
+
+    /**
+     * Adds the ticks recorded by another histogram to this one.
+     *
+     * @param histogram the histogram to add
+     */
+    public void add(@NotNull TickHistogram histogram) {
+        final long[] otherCounts;
+        final long otherCount, otherTime, otherMax;
+        synchronized (histogram) {
+            otherCounts = histogram.counts.clone();
+            otherCount = histogram.totalCount;
+            otherTime = histogram.totalTime;
+            otherMax = histogram.maxTime;
+        }
+        synchronized (this) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                this.counts[i] += otherCounts[i];
+            }
+            this.totalCount += otherCount;
+            this.totalTime += otherTime;
+            this.maxTime = Math.max(maxTime, otherMax);
+        }
+    }
+
+    /**
+     * Removes all the recorded ticks.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        this.totalCount = 0;
+        this.totalTime = 0;
+        this.maxTime = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("TickHistogram{count=%d, mean=%.3fms, p50=%.3fms, p99=%.3fms, max=%.3fms}",
+                totalCount, getMean() / 1e6, getValueAtPercentile(50) / 1e6,
+                getValueAtPercentile(99) / 1e6, maxTime / 1e6);
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT)
+            return (int) value;
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getBucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT)
+            return index;
+        final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long getBucketUpperBound(int index) {
+        return index + 1 < BUCKET_COUNT ? getBucketLowerBound(index + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+        /**
+         * Called for each non-empty bucket.
+         *
+         * @param lowerBound the shortest tick duration of the bucket in nanoseconds (inclusive)
+         * @param upperBound the longest tick duration of the bucket in nanoseconds (inclusive)
+         * @param count      the number of ticks in the bucket
+         */
+        void accept(long lowerBound, long upperBound, long count);
+    }
+}
@@ -1,13 +1,42 @@
 package net.minestom.server.monitoring;
 
+import net.minestom.server.thread.TickPhase;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final List<LockContention> lockContentions;
+    private final Map<TickPhase, Double> phaseTimes;
+    private final double jitter;
+    private final double flushLatency;
+    private final int flushCount;
 
-    public TickMonitor(double tickTime, double acquisitionTime) {
+    public TickMonitor(double tickTime, double acquisitionTime, @NotNull List<LockContention> lockContentions,
+                       @NotNull Map<TickPhase, Double> phaseTimes, double jitter,
+                       double flushLatency, int flushCount) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.lockContentions = lockContentions;
+        this.phaseTimes = phaseTimes;
+        this.jitter = jitter;
+        this.flushLatency = flushLatency;
+        this.flushCount = flushCount;
+    }
+
+    /**
+     * Creates a monitor without any contention, phase or flush data.
+     *
+     * @param tickTime        the tick duration in milliseconds
+     * @param acquisitionTime the time spent acquiring in milliseconds
+     */
+    public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, Collections.emptyList(), Collections.emptyMap(), 0, 0, 0);
     }
 
     public double getTickTime() {
@@ -17,4 +46,54 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the threads which had to wait for each other during the tick acquisitions.
+     *
+     * @return the lock contention of each thread pair
+     */
+    public @NotNull List<LockContention> getLockContentions() {
+        return lockContentions;
+    }
+
+    /**
+     * Gets the time spent in each {@link TickPhase}.
+     * <p>
+     * {@link TickPhase#NETWORK_FLUSH} being executed after the monitoring, its value is from the previous tick.
+     *
+     * @return the duration in milliseconds of each phase
+     */
+    public @NotNull Map<TickPhase, Double> getPhaseTimes() {
+        return phaseTimes;
+    }
+
+    /**
+     * Gets the difference between the scheduled and the actual start time of the tick.
+     * <p>
+     * Positive when the tick started late, e.g. when catching up after a long tick.
+     *
+     * @return the tick jitter in milliseconds
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Gets the time taken by the Netty event loops to flush the connections, from the previous tick.
+     *
+     * @return the flush latency in milliseconds
+     */
+    public double getFlushLatency() {
+        return flushLatency;
+    }
+
+    /**
+     * Gets the number of connections flushed during the previous tick,
+     * each costing at least one write syscall.
+     *
+     * @return the number of flushed connections
+     */
+    public int getFlushCount() {
+        return flushCount;
+    }
 }
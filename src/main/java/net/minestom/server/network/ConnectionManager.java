@@ -412,7 +412,7 @@ public final class ConnectionManager {
             playerInitialization.accept(player);
         }
 
-        AsyncUtils.runAsync(() -> {
+        AsyncUtils.runBlocking(() -> {
             String username = player.getUsername();
             UUID uuid = player.getUuid();
 
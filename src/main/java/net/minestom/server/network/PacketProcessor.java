@@ -1,10 +1,12 @@
 package net.minestom.server.network;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.SocketChannel;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.netty.packet.InboundPacket;
+import net.minestom.server.network.packet.client.ClientPacketPool;
 import net.minestom.server.network.packet.client.ClientPlayPacket;
 import net.minestom.server.network.packet.client.ClientPreplayPacket;
 import net.minestom.server.network.packet.client.handler.ClientLoginPacketsHandler;
@@ -37,6 +39,9 @@ public final class PacketProcessor {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(PacketProcessor.class);
 
+    // Reused by each connection thread, packets are fully read before being queued
+    private static final ThreadLocal<BinaryReader> READER = ThreadLocal.withInitial(() -> new BinaryReader(Unpooled.EMPTY_BUFFER));
+
     private final Map<ChannelHandlerContext, PlayerConnection> connectionPlayerConnectionMap = new ConcurrentHashMap<>();
 
     // Protocols state
@@ -67,15 +72,15 @@ public final class PacketProcessor {
             return;
         }
 
-        // Increment packet count (checked in PlayerConnection#update)
-        if (MinecraftServer.getRateLimit() > 0) {
-            playerConnection.getPacketCounter().incrementAndGet();
-        }
-
         final ConnectionState connectionState = playerConnection.getConnectionState();
 
+        if (playerConnection instanceof NettyPlayerConnection && MinecraftServer.getNetworkMetrics().isEnabled()) {
+            ((NettyPlayerConnection) playerConnection).recordReceived(packet.getBody().readableBytes());
+        }
+
         final int packetId = packet.getPacketId();
-        BinaryReader binaryReader = new BinaryReader(packet.getBody());
+        BinaryReader binaryReader = READER.get();
+        binaryReader.setBuffer(packet.getBody());
 
         if (connectionState == ConnectionState.UNKNOWN) {
             // Should be handshake packet
@@ -90,8 +95,14 @@ public final class PacketProcessor {
         switch (connectionState) {
             case PLAY:
                 final Player player = playerConnection.getPlayer();
-                ClientPlayPacket playPacket = (ClientPlayPacket) playPacketsHandler.getPacketInstance(packetId);
-                safeRead(playerConnection, playPacket, binaryReader);
+                ClientPlayPacket playPacket = playerConnection instanceof NettyPlayerConnection ?
+                        ((NettyPlayerConnection) playerConnection).getPacketPool().acquire(playPacketsHandler, packetId) :
+                        (ClientPlayPacket) playPacketsHandler.getPacketInstance(packetId);
+                if (!safeRead(playerConnection, playPacket, binaryReader)) {
+                    // Pooled instances could still hold the fields of a previous packet
+                    ClientPacketPool.release(playPacket);
+                    break;
+                }
                 assert player != null;
                 player.addPacketToQueue(playPacket);
                 break;
@@ -163,21 +174,18 @@ public final class PacketProcessor {
 
     /**
      * Calls {@link Readable#read(BinaryReader)} and catch all the exceptions to be printed using the packet processor logger.
+     * <p>
+     * An empty body is still read, so only packets without any field can be empty.
      *
      * @param connection the connection who sent the packet
      * @param readable   the readable interface
      * @param reader     the buffer containing the packet
+     * @return true if the packet has been fully read, false if its fields may be missing or come from a previous read
      */
-    private void safeRead(@NotNull PlayerConnection connection, @NotNull Readable readable, @NotNull BinaryReader reader) {
-        final int readableBytes = reader.available();
-
-        // Check if there is anything to read
-        if (readableBytes == 0) {
-            return;
-        }
-
+    private boolean safeRead(@NotNull PlayerConnection connection, @NotNull Readable readable, @NotNull BinaryReader reader) {
         try {
             readable.read(reader);
+            return true;
         } catch (Exception e) {
             final Player player = connection.getPlayer();
             final String username = player != null ? player.getUsername() : "null";
@@ -185,6 +193,7 @@ public final class PacketProcessor {
                     connection.getRemoteAddress(),
                     username);
             MinecraftServer.getExceptionManager().handleException(e);
+            return false;
         }
     }
 }
@@ -0,0 +1,178 @@
+package net.minestom.server.network.netty;
+
+import com.velocitypowered.natives.compression.VelocityCompressor;
+import com.velocitypowered.natives.util.Natives;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses the zlib level used to compress packets.
+ * <p>
+ * Each packet type can have its own level (e.g. a higher level for cached chunk packets, compressed once
+ * but sent to many players), and all levels are lowered to {@link #getReducedLevel()} while the server
+ * is overloaded, trading bandwidth for CPU time when the ticks take too long.
+ * <p>
+ * Can be modified at any time, see {@link MinecraftServer#getAdaptiveCompression()}.
+ */
+public final class AdaptiveCompression {
+
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 9;
+
+    // Weight of the last tick in the smoothed tick time
+    private static final double SMOOTHING = 0.1;
+
+    // Compressors are created lazily for each thread and level
+    private static final ThreadLocal<VelocityCompressor[]> COMPRESSORS =
+            ThreadLocal.withInitial(() -> new VelocityCompressor[MAX_LEVEL + 1]);
+
+    private final Map<Class<? extends ServerPacket>, Integer> packetLevels = new ConcurrentHashMap<>();
+    private volatile int defaultLevel = 4;
+    private volatile int reducedLevel = MIN_LEVEL;
+    private volatile double overloadThreshold = 1;
+
+    private volatile double tickLoad;
+
+    /**
+     * Gets the level used for the packets without a specific level.
+     *
+     * @return the default compression level
+     */
+    public int getDefaultLevel() {
+        return defaultLevel;
+    }
+
+    /**
+     * Changes the level used for the packets without a specific level.
+     *
+     * @param defaultLevel the new default compression level
+     * @throws IllegalArgumentException if {@code defaultLevel} is not between {@link #MIN_LEVEL} and {@link #MAX_LEVEL}
+     */
+    public void setDefaultLevel(int defaultLevel) {
+        checkLevel(defaultLevel);
+        this.defaultLevel = defaultLevel;
+    }
+
+    /**
+     * Changes the compression level of a packet type.
+     *
+     * @param packetType the packet type
+     * @param level      the compression level, null to use the default level
+     * @throws IllegalArgumentException if {@code level} is not between {@link #MIN_LEVEL} and {@link #MAX_LEVEL}
+     */
+    public void setLevel(@NotNull Class<? extends ServerPacket> packetType, @Nullable Integer level) {
+        if (level == null) {
+            this.packetLevels.remove(packetType);
+        } else {
+            checkLevel(level);
+            this.packetLevels.put(packetType, level);
+        }
+    }
+
+    /**
+     * Gets the maximum level used while the server is overloaded.
+     *
+     * @return the reduced compression level
+     */
+    public int getReducedLevel() {
+        return reducedLevel;
+    }
+
+    /**
+     * Changes the maximum level used while the server is overloaded.
+     *
+     * @param reducedLevel the new reduced compression level
+     * @throws IllegalArgumentException if {@code reducedLevel} is not between {@link #MIN_LEVEL} and {@link #MAX_LEVEL}
+     */
+    public void setReducedLevel(int reducedLevel) {
+        checkLevel(reducedLevel);
+        this.reducedLevel = reducedLevel;
+    }
+
+    /**
+     * Gets the tick load above which the server is considered overloaded.
+     *
+     * @return the overload threshold, 1 meaning that the ticks take all their time
+     */
+    public double getOverloadThreshold() {
+        return overloadThreshold;
+    }
+
+    /**
+     * Changes the tick load above which the compression level is reduced.
+     *
+     * @param overloadThreshold the new overload threshold, {@link Double#POSITIVE_INFINITY} to never reduce the level
+     */
+    public void setOverloadThreshold(double overloadThreshold) {
+        Check.argCondition(overloadThreshold <= 0, "The overload threshold must be positive");
+        this.overloadThreshold = overloadThreshold;
+    }
+
+    /**
+     * Gets the smoothed tick time divided by the duration of a tick.
+     *
+     * @return the current tick load
+     */
+    public double getTickLoad() {
+        return tickLoad;
+    }
+
+    /**
+     * Refreshes the tick load, called at the end of each tick.
+     *
+     * @param tickTime the time the tick took in nanoseconds
+     */
+    @ApiStatus.Internal
+    public void updateTickTime(long tickTime) {
+        final double load = tickTime / (MinecraftServer.TICK_MS * 1e6D);
+        this.tickLoad += (load - tickLoad) * SMOOTHING;
+    }
+
+    /**
+     * Gets the compression level of a packet.
+     *
+     * @param serverPacket the packet to compress, null if unknown
+     * @return the compression level
+     */
+    public int getLevel(@Nullable ServerPacket serverPacket) {
+        int level = defaultLevel;
+        if (serverPacket != null && !packetLevels.isEmpty()) {
+            final Integer packetLevel = packetLevels.get(serverPacket.getClass());
+            if (packetLevel != null)
+                level = packetLevel;
+        }
+        if (tickLoad > overloadThreshold) {
+            level = Math.min(level, reducedLevel);
+        }
+        return level;
+    }
+
+    /**
+     * Gets the compressor of the current thread for a packet.
+     *
+     * @param serverPacket the packet to compress, null if unknown
+     * @return the compressor using the level of {@code serverPacket}
+     */
+    public @NotNull VelocityCompressor getCompressor(@Nullable ServerPacket serverPacket) {
+        final int level = getLevel(serverPacket);
+        final VelocityCompressor[] compressors = COMPRESSORS.get();
+        VelocityCompressor compressor = compressors[level];
+        if (compressor == null) {
+            compressor = Natives.compress.get().create(level);
+            compressors[level] = compressor;
+        }
+        return compressor;
+    }
+
+    private static void checkLevel(int level) {
+        Check.argCondition(level < MIN_LEVEL || level > MAX_LEVEL,
+                "The compression level must be between " + MIN_LEVEL + " and " + MAX_LEVEL);
+    }
+}
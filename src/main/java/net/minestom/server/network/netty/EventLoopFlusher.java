@@ -0,0 +1,129 @@
+package net.minestom.server.network.netty;
+
+import io.netty.channel.EventLoop;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.player.NettyPlayerConnection;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flushes the connections at the end of each tick, using a single task per {@link EventLoop}
+ * for all the channels it owns so writes do not have to hop between threads.
+ * <p>
+ * Batches are reused between ticks, nothing is allocated once all the event loops have been seen.
+ */
+@ApiStatus.Internal
+public final class EventLoopFlusher {
+
+    private final Map<EventLoop, FlushBatch> batches = new IdentityHashMap<>();
+    private final List<FlushBatch> batchList = new ArrayList<>();
+
+    private volatile long flushStart;
+    private final AtomicLong flushEnd = new AtomicLong();
+    private final AtomicInteger flushCount = new AtomicInteger();
+
+    private volatile long lastFlushLatency;
+    private volatile int lastFlushCount;
+
+    /**
+     * Schedules the flush of the players connections, must always be called from the same thread.
+     * <p>
+     * Connections whose event loop is still flushing the previous tick are flushed during the next one.
+     *
+     * @param players the players to flush
+     */
+    public void flush(@NotNull Iterable<@NotNull Player> players) {
+        // Publish the measures of the previous flush
+        final long previousStart = flushStart;
+        if (previousStart != 0) {
+            this.lastFlushLatency = Math.max(0, flushEnd.get() - previousStart);
+            this.lastFlushCount = flushCount.getAndSet(0);
+        }
+
+        for (Player player : players) {
+            final PlayerConnection playerConnection = player.getPlayerConnection();
+            if (!(playerConnection instanceof NettyPlayerConnection))
+                continue;
+            final NettyPlayerConnection connection = (NettyPlayerConnection) playerConnection;
+            final EventLoop eventLoop = connection.getChannel().eventLoop();
+            FlushBatch batch = batches.get(eventLoop);
+            if (batch == null) {
+                batch = new FlushBatch(eventLoop);
+                this.batches.put(eventLoop, batch);
+                this.batchList.add(batch);
+            }
+            if (!batch.scheduled) {
+                batch.connections.add(connection);
+            }
+        }
+
+        this.flushStart = System.nanoTime();
+        this.flushEnd.set(flushStart);
+        for (int i = 0; i < batchList.size(); i++) {
+            final FlushBatch batch = batchList.get(i);
+            if (batch.scheduled || batch.connections.isEmpty())
+                continue;
+            batch.scheduled = true;
+            batch.eventLoop.execute(batch);
+        }
+    }
+
+    /**
+     * Gets the time between the start of the last complete flush and the end of its last event loop task.
+     *
+     * @return the flush latency in nanoseconds
+     */
+    public long getLastFlushLatency() {
+        return lastFlushLatency;
+    }
+
+    /**
+     * Gets the number of channels which had packets to flush during the last complete flush,
+     * each flushed channel costing at least one write syscall.
+     *
+     * @return the number of flushed channels
+     */
+    public int getLastFlushCount() {
+        return lastFlushCount;
+    }
+
+    private final class FlushBatch implements Runnable {
+        private final EventLoop eventLoop;
+        // Filled by the tick thread while not scheduled, then read by the event loop
+        private final List<NettyPlayerConnection> connections = new ArrayList<>();
+        private volatile boolean scheduled;
+
+        private FlushBatch(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public void run() {
+            int flushed = 0;
+            try {
+                for (int i = 0; i < connections.size(); i++) {
+                    try {
+                        if (connections.get(i).flush())
+                            flushed++;
+                    } catch (Exception e) {
+                        MinecraftServer.getExceptionManager().handleException(e);
+                    }
+                }
+            } finally {
+                this.connections.clear();
+                flushCount.addAndGet(flushed);
+                flushEnd.accumulateAndGet(System.nanoTime(), Math::max);
+                this.scheduled = false;
+            }
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package net.minestom.server.network.netty;
 
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.*;
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.kqueue.KQueue;
 import io.netty.channel.kqueue.KQueueEventLoopGroup;
 import io.netty.channel.kqueue.KQueueServerSocketChannel;
@@ -16,10 +17,13 @@ import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.incubator.channel.uring.IOUring;
 import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
 import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.network.PacketProcessor;
 import net.minestom.server.network.netty.channel.ClientChannel;
 import net.minestom.server.network.netty.codec.*;
+import net.minestom.server.thread.ThreadAffinityPolicy;
+import net.minestom.server.utils.thread.ThreadAffinity;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -28,6 +32,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.util.BitSet;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ApiStatus.Internal
 public final class NettyServer {
@@ -45,6 +52,7 @@ public final class NettyServer {
 
     public static final String GROUPED_PACKET_HANDLER_NAME = "grouped-packet"; // Write
     public static final String FRAMER_HANDLER_NAME = "framer"; // Read/write
+    public static final String RATE_LIMITER_HANDLER_NAME = "rate-limiter"; // Read
 
     public static final String COMPRESSOR_HANDLER_NAME = "compressor"; // Read/write
 
@@ -79,33 +87,36 @@ public final class NettyServer {
 
         Class<? extends ServerChannel> channel;
         final int workerThreadCount = MinecraftServer.getNettyThreadCount();
+        final TransportConfig transportConfig = MinecraftServer.getTransportConfig();
+        final int bossThreadCount = transportConfig.getBossThreadCount();
 
         // Find boss/worker event group
         {
             if (IOUring.isAvailable()) {
-                boss = new IOUringEventLoopGroup(2);
-                worker = new IOUringEventLoopGroup(workerThreadCount);
+                boss = new IOUringEventLoopGroup(bossThreadCount);
+                worker = new IOUringEventLoopGroup(workerThreadCount, createWorkerThreadFactory(IOUringEventLoopGroup.class, workerThreadCount),
+                        transportConfig.getIoUringRingSize(), transportConfig.getIoUringAsyncThreshold());
 
                 channel = IOUringServerSocketChannel.class;
 
                 LOGGER.info("Using io_uring");
             } else if (Epoll.isAvailable()) {
-                boss = new EpollEventLoopGroup(2);
-                worker = new EpollEventLoopGroup(workerThreadCount);
+                boss = new EpollEventLoopGroup(bossThreadCount);
+                worker = new EpollEventLoopGroup(workerThreadCount, createWorkerThreadFactory(EpollEventLoopGroup.class, workerThreadCount));
 
                 channel = EpollServerSocketChannel.class;
 
                 LOGGER.info("Using epoll");
             } else if (KQueue.isAvailable()) {
-                boss = new KQueueEventLoopGroup(2);
-                worker = new KQueueEventLoopGroup(workerThreadCount);
+                boss = new KQueueEventLoopGroup(bossThreadCount);
+                worker = new KQueueEventLoopGroup(workerThreadCount, createWorkerThreadFactory(KQueueEventLoopGroup.class, workerThreadCount));
 
                 channel = KQueueServerSocketChannel.class;
 
                 LOGGER.info("Using kqueue");
             } else {
-                boss = new NioEventLoopGroup(2);
-                worker = new NioEventLoopGroup(workerThreadCount);
+                boss = new NioEventLoopGroup(bossThreadCount);
+                worker = new NioEventLoopGroup(workerThreadCount, createWorkerThreadFactory(NioEventLoopGroup.class, workerThreadCount));
 
                 channel = NioServerSocketChannel.class;
 
@@ -122,10 +133,23 @@ public final class NettyServer {
         bootstrap.childHandler(new ChannelInitializer<SocketChannel>() {
             protected void initChannel(@NotNull SocketChannel ch) {
                 ChannelConfig config = ch.config();
-                config.setOption(ChannelOption.TCP_NODELAY, true);
+                config.setOption(ChannelOption.TCP_NODELAY, transportConfig.isTcpNoDelay());
                 config.setOption(ChannelOption.SO_KEEPALIVE, true);
-                config.setOption(ChannelOption.SO_SNDBUF, BUFFER_SIZE);
-                config.setAllocator(ByteBufAllocator.DEFAULT);
+                if (transportConfig.getSendBufferSize() > 0) {
+                    config.setOption(ChannelOption.SO_SNDBUF, transportConfig.getSendBufferSize());
+                }
+                config.setAllocator(transportConfig.getAllocator());
+                if (ch instanceof EpollSocketChannel) {
+                    if (transportConfig.getEpollMode() != null) {
+                        config.setOption(EpollChannelOption.EPOLL_MODE, transportConfig.getEpollMode());
+                    }
+                    if (transportConfig.getBusyPollMicros() > 0) {
+                        config.setOption(EpollChannelOption.SO_BUSY_POLL, transportConfig.getBusyPollMicros());
+                    }
+                    if (transportConfig.isTcpQuickAck()) {
+                        config.setOption(EpollChannelOption.TCP_QUICKACK, true);
+                    }
+                }
 
                 ChannelPipeline pipeline = ch.pipeline();
 
@@ -139,6 +163,9 @@ public final class NettyServer {
                 // Adds packetLength at start | Reads framed buffer
                 pipeline.addLast(FRAMER_HANDLER_NAME, new PacketFramer(packetProcessor));
 
+                // Drops the packets over the rate limits before spending time decoding them
+                pipeline.addLast(RATE_LIMITER_HANDLER_NAME, new RateLimitHandler(packetProcessor));
+
                 // Reads buffer and create inbound packet
                 pipeline.addLast(DECODER_HANDLER_NAME, new PacketDecoder());
 
@@ -150,6 +177,32 @@ public final class NettyServer {
         });
     }
 
+    /**
+     * Creates the factory of the worker threads, pinning them following {@link MinecraftServer#getThreadAffinityPolicy()}.
+     *
+     * @param groupType   the type of the worker group, used to name threads
+     * @param workerCount the number of worker threads
+     * @return the worker thread factory, null to use the default one
+     */
+    private static @Nullable ThreadFactory createWorkerThreadFactory(@NotNull Class<?> groupType, int workerCount) {
+        final ThreadAffinityPolicy affinityPolicy = MinecraftServer.getThreadAffinityPolicy();
+        if (affinityPolicy == null || !ThreadAffinity.isSupported())
+            return null;
+        final AtomicInteger workerIndex = new AtomicInteger();
+        return new DefaultThreadFactory(groupType) {
+            @Override
+            protected Thread newThread(Runnable r, String name) {
+                final BitSet cpus = affinityPolicy.getNettyThreadCpus(workerIndex.getAndIncrement(), workerCount);
+                if (cpus == null)
+                    return super.newThread(r, name);
+                return super.newThread(() -> {
+                    ThreadAffinity.pinCurrentThread(cpus);
+                    r.run();
+                }, name);
+            }
+        };
+    }
+
     /**
      * Binds the address to start the server.
      *
@@ -0,0 +1,75 @@
+package net.minestom.server.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.monitoring.PacketEncodeTime;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.cache.CacheablePacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Encodes and compresses the packets queued by the tick threads when {@link MinecraftServer#hasDeferredPacketEncoding()}
+ * is enabled. Packets are encoded when their connection is drained, usually by its channel event loop during
+ * the flush of the tick, so the netty worker threads act as the encoder pool.
+ * <p>
+ * Each connection drains its queue in order, the packet order is kept.
+ */
+@ApiStatus.Internal
+public final class PacketEncodingStage {
+
+    private static final Map<Class<? extends ServerPacket>, EncodeTiming> TIMINGS = new ConcurrentHashMap<>();
+
+    private PacketEncodingStage() {
+    }
+
+    /**
+     * Encodes a queued packet, using its cache if available.
+     *
+     * @param serverPacket the packet to encode
+     * @return the framed packet
+     */
+    public static @NotNull ByteBuf encode(@NotNull ServerPacket serverPacket) {
+        final long start = System.nanoTime();
+        ByteBuf buffer = null;
+        if (serverPacket instanceof CacheablePacket && MinecraftServer.hasPacketCaching()) {
+            buffer = CacheablePacket.retainCache(serverPacket);
+        }
+        if (buffer == null) {
+            buffer = PacketUtils.createFramedPacket(serverPacket);
+        }
+
+        final Class<? extends ServerPacket> packetType = serverPacket.getClass();
+        EncodeTiming timing = TIMINGS.get(packetType);
+        if (timing == null) {
+            timing = TIMINGS.computeIfAbsent(packetType, type -> new EncodeTiming());
+        }
+        timing.count.increment();
+        timing.time.add(System.nanoTime() - start);
+        return buffer;
+    }
+
+    /**
+     * Gets the time spent encoding each type of packet since the server started.
+     *
+     * @return the encode time of each encoded packet type
+     */
+    public static @NotNull List<@NotNull PacketEncodeTime> getEncodeTimes() {
+        List<PacketEncodeTime> encodeTimes = new ArrayList<>(TIMINGS.size());
+        TIMINGS.forEach((packetType, timing) ->
+                encodeTimes.add(new PacketEncodeTime(packetType, timing.count.sum(), timing.time.sum() / 1e6D)));
+        return encodeTimes;
+    }
+
+    private static final class EncodeTiming {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder time = new LongAdder();
+    }
+}
@@ -0,0 +1,208 @@
+package net.minestom.server.network.netty;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.epoll.EpollMode;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Transport options applied by {@link NettyServer} when the server starts.
+ * <p>
+ * Options specific to a transport are ignored by the others. Epoll options only apply to Linux
+ * when io_uring is not available, see {@link NettyServer#init()}.
+ * <p>
+ * WARNING: options cannot be changed once the server has been started.
+ *
+ * @see MinecraftServer#getTransportConfig()
+ */
+public final class TransportConfig {
+
+    private int bossThreadCount = 2;
+    private boolean tcpNoDelay = true;
+    private int sendBufferSize = NettyServer.BUFFER_SIZE;
+    private ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
+
+    // Epoll
+    private EpollMode epollMode;
+    private int busyPollMicros;
+    private boolean tcpQuickAck;
+    private boolean tcpCork;
+
+    // io_uring, defaults of the transport
+    private int ioUringRingSize = Integer.getInteger("io.netty.iouring.ringSize", 4096);
+    private int ioUringAsyncThreshold = Integer.getInteger("io.netty.iouring.iosqeAsyncThreshold", 25);
+
+    public int getBossThreadCount() {
+        return bossThreadCount;
+    }
+
+    /**
+     * Changes the number of threads accepting the connections.
+     *
+     * @param bossThreadCount the number of boss threads
+     */
+    public void setBossThreadCount(int bossThreadCount) {
+        checkState();
+        Check.argCondition(bossThreadCount <= 0, "The boss thread count must be positive");
+        this.bossThreadCount = bossThreadCount;
+    }
+
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    /**
+     * Enables or disables Nagle's algorithm, disabled by default since packets are already batched per tick.
+     *
+     * @param tcpNoDelay true to disable Nagle's algorithm
+     */
+    public void setTcpNoDelay(boolean tcpNoDelay) {
+        checkState();
+        this.tcpNoDelay = tcpNoDelay;
+    }
+
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    /**
+     * Changes the size of the socket send buffer ({@code SO_SNDBUF}).
+     *
+     * @param sendBufferSize the send buffer size in bytes, 0 to use the system default
+     */
+    public void setSendBufferSize(int sendBufferSize) {
+        checkState();
+        Check.argCondition(sendBufferSize < 0, "The send buffer size cannot be negative");
+        this.sendBufferSize = sendBufferSize;
+    }
+
+    public @NotNull ByteBufAllocator getAllocator() {
+        return allocator;
+    }
+
+    /**
+     * Changes the allocator of the channels.
+     *
+     * @param allocator the channel allocator
+     */
+    public void setAllocator(@NotNull ByteBufAllocator allocator) {
+        checkState();
+        this.allocator = allocator;
+    }
+
+    /**
+     * Uses a pooled allocator only allocating direct buffers, with a custom number of arenas.
+     * <p>
+     * Fewer arenas than event loops reduce the memory footprint at the cost of contention between them.
+     *
+     * @param directArenaCount the number of direct arenas
+     */
+    public void usePooledDirectAllocator(int directArenaCount) {
+        Check.argCondition(directArenaCount <= 0, "The arena count must be positive");
+        setAllocator(new PooledByteBufAllocator(true, 0, directArenaCount,
+                PooledByteBufAllocator.defaultPageSize(), PooledByteBufAllocator.defaultMaxOrder()));
+    }
+
+    public @Nullable EpollMode getEpollMode() {
+        return epollMode;
+    }
+
+    /**
+     * Changes the epoll mode of the channels.
+     *
+     * @param epollMode the epoll mode, null to use netty's default (edge-triggered)
+     */
+    public void setEpollMode(@Nullable EpollMode epollMode) {
+        checkState();
+        this.epollMode = epollMode;
+    }
+
+    public int getBusyPollMicros() {
+        return busyPollMicros;
+    }
+
+    /**
+     * Changes the time spent busy polling the device queue when reading ({@code SO_BUSY_POLL}),
+     * reducing the latency at the cost of CPU time. Requires {@code CAP_NET_ADMIN} to be increased.
+     *
+     * @param busyPollMicros the busy poll time in microseconds, 0 to disable busy polling
+     */
+    public void setBusyPollMicros(int busyPollMicros) {
+        checkState();
+        Check.argCondition(busyPollMicros < 0, "The busy poll time cannot be negative");
+        this.busyPollMicros = busyPollMicros;
+    }
+
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    /**
+     * Enables {@code TCP_QUICKACK}, re-armed after each flush since the kernel can disable it at any time.
+     * <p>
+     * Costs a {@code setsockopt} system call per connection for each tick where packets are sent to it.
+     *
+     * @param tcpQuickAck true to acknowledge the received packets immediately
+     */
+    public void setTcpQuickAck(boolean tcpQuickAck) {
+        checkState();
+        this.tcpQuickAck = tcpQuickAck;
+    }
+
+    public boolean isTcpCork() {
+        return tcpCork;
+    }
+
+    /**
+     * Enables {@code TCP_CORK} while the waiting packets are written, so they are sent in full segments
+     * and the last partial one is sent as soon as the flush ends.
+     * <p>
+     * Costs two {@code setsockopt} system calls per connection for each tick where packets are sent to it,
+     * which may outweigh the saved segments when most flushes only contain a few small packets.
+     *
+     * @param tcpCork true to cork the channels during the flushes
+     */
+    public void setTcpCork(boolean tcpCork) {
+        checkState();
+        this.tcpCork = tcpCork;
+    }
+
+    public int getIoUringRingSize() {
+        return ioUringRingSize;
+    }
+
+    /**
+     * Changes the size of the io_uring submission queue of each event loop, submissions being sent
+     * in a single batch for each loop iteration.
+     *
+     * @param ioUringRingSize the ring size
+     */
+    public void setIoUringRingSize(int ioUringRingSize) {
+        checkState();
+        Check.argCondition(ioUringRingSize <= 0, "The ring size must be positive");
+        this.ioUringRingSize = ioUringRingSize;
+    }
+
+    public int getIoUringAsyncThreshold() {
+        return ioUringAsyncThreshold;
+    }
+
+    /**
+     * Changes the number of pending operations of a channel from which they are submitted
+     * with {@code IOSQE_ASYNC}, executed by the kernel workers instead of inline.
+     *
+     * @param ioUringAsyncThreshold the async threshold
+     */
+    public void setIoUringAsyncThreshold(int ioUringAsyncThreshold) {
+        checkState();
+        Check.argCondition(ioUringAsyncThreshold < 0, "The async threshold cannot be negative");
+        this.ioUringAsyncThreshold = ioUringAsyncThreshold;
+    }
+
+    private static void checkState() {
+        Check.stateCondition(MinecraftServer.isStarted(), "The transport cannot be configured after the server has been started.");
+    }
+}
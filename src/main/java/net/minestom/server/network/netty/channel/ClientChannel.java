@@ -57,6 +57,15 @@ public class ClientChannel extends SimpleChannelInboundHandler<InboundPacket> {
         }
     }
 
+    @Override
+    public void channelWritabilityChanged(@NotNull ChannelHandlerContext ctx) {
+        final PlayerConnection playerConnection = packetProcessor.getPlayerConnection(ctx);
+        if (playerConnection instanceof NettyPlayerConnection) {
+            ((NettyPlayerConnection) playerConnection).refreshCongestion();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
     @Override
     public void channelInactive(@NotNull ChannelHandlerContext ctx) {
         PlayerConnection playerConnection = packetProcessor.removePlayerConnection(ctx);
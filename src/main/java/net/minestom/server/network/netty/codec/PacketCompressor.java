@@ -23,6 +23,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
 import io.netty.handler.codec.DecoderException;
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.Utils;
 
@@ -34,6 +35,7 @@ public class PacketCompressor extends ByteToMessageCodec<ByteBuf> {
 
     private final int threshold;
 
+    // Only used to decompress, compression levels are chosen by AdaptiveCompression
     private final VelocityCompressor compressor = Natives.compress.get().create(4);
 
     public PacketCompressor(int threshold) {
@@ -42,7 +44,7 @@ public class PacketCompressor extends ByteToMessageCodec<ByteBuf> {
 
     @Override
     protected void encode(ChannelHandlerContext ctx, ByteBuf from, ByteBuf to) {
-        PacketUtils.compressBuffer(compressor, from, to);
+        PacketUtils.compressBuffer(MinecraftServer.getAdaptiveCompression().getCompressor(null), from, to);
     }
 
     @Override
@@ -3,6 +3,8 @@ package net.minestom.server.network.netty.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.monitoring.NetworkMetrics;
 import net.minestom.server.network.netty.packet.InboundPacket;
 import net.minestom.server.utils.Utils;
 
@@ -14,6 +16,10 @@ public class PacketDecoder extends ByteToMessageDecoder {
     protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> list) {
         if (buf.readableBytes() > 0) {
             final int packetId = Utils.readVarInt(buf);
+            final NetworkMetrics networkMetrics = MinecraftServer.getNetworkMetrics();
+            if (networkMetrics.isEnabled()) {
+                networkMetrics.recordInbound(packetId, buf.readableBytes());
+            }
             list.add(new InboundPacket(packetId, buf));
         }
     }
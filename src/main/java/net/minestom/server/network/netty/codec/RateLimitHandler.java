@@ -0,0 +1,120 @@
+package net.minestom.server.network.netty.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.netty.NettyServer;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of packets and bytes a client can send per second, using a token bucket
+ * refilled continuously and allowing bursts of one second.
+ * <p>
+ * Placed right after the {@link PacketFramer}, packets over the limit are discarded before being decompressed
+ * or decoded and the client is disconnected.
+ * Only accessed by the channel event loop, nothing is shared between connections.
+ *
+ * @see MinecraftServer#setRateLimit(int)
+ * @see MinecraftServer#setByteRateLimit(int)
+ */
+public class RateLimitHandler extends ChannelInboundHandlerAdapter {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(RateLimitHandler.class);
+
+    // Text used to kick client sending too many packets
+    private static final Component RATE_LIMIT_KICK_MESSAGE = Component.text("Too Many Packets", NamedTextColor.RED);
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final PacketProcessor packetProcessor;
+
+    private long lastRefill = System.nanoTime();
+    private double packetTokens = Double.MAX_VALUE;
+    private double byteTokens = Double.MAX_VALUE;
+    private boolean limited;
+
+    // Packets received since the start of the current second, see PlayerConnection#getLastPacketCounter()
+    private long secondStart = lastRefill;
+    private int packetCount;
+
+    public RateLimitHandler(@NotNull PacketProcessor packetProcessor) {
+        this.packetProcessor = packetProcessor;
+    }
+
+    @Override
+    public void channelRead(@NotNull ChannelHandlerContext ctx, @NotNull Object msg) {
+        if (limited) {
+            // Already disconnecting
+            ReferenceCountUtil.release(msg);
+            return;
+        }
+
+        final int rateLimit = MinecraftServer.getRateLimit();
+        final int byteRateLimit = MinecraftServer.getByteRateLimit();
+        if (rateLimit > 0 || byteRateLimit > 0) {
+            final long now = System.nanoTime();
+            refill(now, rateLimit, byteRateLimit);
+            countPacket(ctx, now);
+
+            this.packetTokens--;
+            if (msg instanceof ByteBuf) {
+                this.byteTokens -= ((ByteBuf) msg).readableBytes();
+            }
+            if (packetTokens < 0 || byteTokens < 0) {
+                ReferenceCountUtil.release(msg);
+                limit(ctx);
+                return;
+            }
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private void refill(long now, int rateLimit, int byteRateLimit) {
+        final double elapsed = (double) (now - lastRefill) / SECOND;
+        this.lastRefill = now;
+        // A disabled limit has an infinite bucket, full when enabled
+        this.packetTokens = rateLimit > 0 ? Math.min(rateLimit, packetTokens + elapsed * rateLimit) : Double.MAX_VALUE;
+        this.byteTokens = byteRateLimit > 0 ? Math.min(byteRateLimit, byteTokens + elapsed * byteRateLimit) : Double.MAX_VALUE;
+    }
+
+    private void countPacket(@NotNull ChannelHandlerContext ctx, long now) {
+        if (now - secondStart >= SECOND) {
+            final PlayerConnection playerConnection = getPlayerConnection(ctx);
+            if (playerConnection != null) {
+                playerConnection.refreshLastPacketCounter(packetCount);
+            }
+            this.secondStart = now;
+            this.packetCount = 0;
+        }
+        this.packetCount++;
+    }
+
+    private void limit(@NotNull ChannelHandlerContext ctx) {
+        this.limited = true;
+        final PlayerConnection playerConnection = getPlayerConnection(ctx);
+        final Player player = playerConnection != null ? playerConnection.getPlayer() : null;
+        LOGGER.warn("{} sent too many packets, disconnecting",
+                playerConnection != null ? playerConnection.getIdentifier() : ctx.channel().remoteAddress());
+        if (player != null) {
+            player.kick(RATE_LIMIT_KICK_MESSAGE);
+        } else {
+            ctx.close();
+        }
+    }
+
+    private @Nullable PlayerConnection getPlayerConnection(@NotNull ChannelHandlerContext ctx) {
+        // Connections are registered with the context of the last handler
+        final ChannelHandlerContext clientContext = ctx.pipeline().context(NettyServer.CLIENT_CHANNEL_NAME);
+        return clientContext != null ? packetProcessor.getPlayerConnection(clientContext) : null;
+    }
+}
@@ -0,0 +1,129 @@
+package net.minestom.server.network.packet.client;
+
+import net.minestom.server.network.packet.client.play.ClientPlayerPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+
+/**
+ * Merges the consecutive movement packets received from a player into a single one,
+ * so the movement listeners and {@link net.minestom.server.event.player.PlayerMoveEvent} run once per tick.
+ * <p>
+ * Only consecutive packets are merged, any other packet (e.g. {@link net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket})
+ * ends the movement and keeps its place in the queue.
+ * <p>
+ * The merged packet is reused for each movement, it must not be kept once processed.
+ *
+ * @see net.minestom.server.MinecraftServer#setInboundMovementCoalescing(boolean)
+ */
+@ApiStatus.Internal
+public final class ClientMovementCoalescer {
+
+    private final ClientPlayerPositionAndRotationPacket positionAndRotationPacket = new ClientPlayerPositionAndRotationPacket();
+    private final ClientPlayerPositionPacket positionPacket = new ClientPlayerPositionPacket();
+    private final ClientPlayerRotationPacket rotationPacket = new ClientPlayerRotationPacket();
+    private final ClientPlayerPacket playerPacket = new ClientPlayerPacket();
+
+    private double x, y, z;
+    private boolean moved;
+    private float yaw, pitch;
+    private boolean rotated;
+    private boolean onGround;
+
+    /**
+     * Gets if a packet is a movement packet which can be merged.
+     *
+     * @param packet the packet
+     * @return true if {@code packet} is a movement packet
+     */
+    public static boolean isMovement(@NotNull ClientPlayPacket packet) {
+        return packet instanceof ClientPlayerPositionPacket || packet instanceof ClientPlayerRotationPacket ||
+                packet instanceof ClientPlayerPositionAndRotationPacket || packet instanceof ClientPlayerPacket;
+    }
+
+    /**
+     * Merges a movement packet with the movement packets directly following it in the queue.
+     * <p>
+     * Merged packets are removed from the queue and released to their pool.
+     *
+     * @param packet the movement packet polled from {@code queue}
+     * @param queue  the queue of the packets to process
+     * @return {@code packet} if it is not followed by another movement, the merged packet otherwise
+     */
+    public @NotNull ClientPlayPacket coalesce(@NotNull ClientPlayPacket packet, @NotNull Queue<ClientPlayPacket> queue) {
+        ClientPlayPacket next = queue.peek();
+        if (next == null || !isMovement(next)) {
+            return packet;
+        }
+
+        this.moved = rotated = false;
+        merge(packet);
+        do {
+            // Only the tick thread polls the queue, the peeked packet is still at its head
+            queue.poll();
+            merge(next);
+        } while ((next = queue.peek()) != null && isMovement(next));
+
+        if (moved && rotated) {
+            this.positionAndRotationPacket.x = x;
+            this.positionAndRotationPacket.y = y;
+            this.positionAndRotationPacket.z = z;
+            this.positionAndRotationPacket.yaw = yaw;
+            this.positionAndRotationPacket.pitch = pitch;
+            this.positionAndRotationPacket.onGround = onGround;
+            return positionAndRotationPacket;
+        } else if (moved) {
+            this.positionPacket.x = x;
+            this.positionPacket.y = y;
+            this.positionPacket.z = z;
+            this.positionPacket.onGround = onGround;
+            return positionPacket;
+        } else if (rotated) {
+            this.rotationPacket.yaw = yaw;
+            this.rotationPacket.pitch = pitch;
+            this.rotationPacket.onGround = onGround;
+            return rotationPacket;
+        } else {
+            this.playerPacket.onGround = onGround;
+            return playerPacket;
+        }
+    }
+
+    private void merge(@NotNull ClientPlayPacket packet) {
+        if (packet instanceof ClientPlayerPositionAndRotationPacket) {
+            final ClientPlayerPositionAndRotationPacket positionAndRotationPacket = (ClientPlayerPositionAndRotationPacket) packet;
+            move(positionAndRotationPacket.x, positionAndRotationPacket.y, positionAndRotationPacket.z);
+            rotate(positionAndRotationPacket.yaw, positionAndRotationPacket.pitch);
+            this.onGround = positionAndRotationPacket.onGround;
+        } else if (packet instanceof ClientPlayerPositionPacket) {
+            final ClientPlayerPositionPacket positionPacket = (ClientPlayerPositionPacket) packet;
+            move(positionPacket.x, positionPacket.y, positionPacket.z);
+            this.onGround = positionPacket.onGround;
+        } else if (packet instanceof ClientPlayerRotationPacket) {
+            final ClientPlayerRotationPacket rotationPacket = (ClientPlayerRotationPacket) packet;
+            rotate(rotationPacket.yaw, rotationPacket.pitch);
+            this.onGround = rotationPacket.onGround;
+        } else if (packet instanceof ClientPlayerPacket) {
+            this.onGround = ((ClientPlayerPacket) packet).onGround;
+        }
+        // Values have been copied
+        ClientPacketPool.release(packet);
+    }
+
+    private void move(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.moved = true;
+    }
+
+    private void rotate(float yaw, float pitch) {
+        this.yaw = yaw;
+        this.pitch = pitch;
+        this.rotated = true;
+    }
+}
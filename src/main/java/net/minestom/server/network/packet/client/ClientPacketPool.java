@@ -0,0 +1,63 @@
+package net.minestom.server.network.packet.client;
+
+import io.netty.util.internal.PlatformDependent;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.network.packet.client.handler.ClientPacketsHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+
+/**
+ * Reuses the instances of frequently received packets (e.g. movements) for a connection,
+ * so they do not have to be allocated for each packet.
+ * <p>
+ * Packets are acquired by the connection thread when decoded, and released once processed by the tick thread.
+ * Only packets registered as pooled are reused, see {@link ClientPacketsHandler#isPooled(int)}.
+ */
+public final class ClientPacketPool {
+
+    private static final int POOL_CAPACITY = 16;
+
+    // Only accessed by the connection thread
+    private final Int2ObjectMap<Queue<ClientPlayPacket>> pools = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Gets a packet instance to read, reused if possible.
+     * <p>
+     * Must always be called from the same thread.
+     *
+     * @param packetsHandler the handler creating new instances
+     * @param id             the packet id
+     * @return a packet instance
+     */
+    public @NotNull ClientPlayPacket acquire(@NotNull ClientPacketsHandler packetsHandler, int id) {
+        if (!packetsHandler.isPooled(id)) {
+            return (ClientPlayPacket) packetsHandler.getPacketInstance(id);
+        }
+        Queue<ClientPlayPacket> pool = pools.get(id);
+        if (pool == null) {
+            pool = PlatformDependent.newFixedMpscQueue(POOL_CAPACITY);
+            this.pools.put(id, pool);
+        }
+        ClientPlayPacket packet = pool.poll();
+        if (packet == null) {
+            packet = (ClientPlayPacket) packetsHandler.getPacketInstance(id);
+            packet.pool = pool;
+        }
+        return packet;
+    }
+
+    /**
+     * Returns a packet to its pool once processed, does nothing if the packet is not pooled.
+     *
+     * @param packet the processed packet
+     */
+    public static void release(@NotNull ClientPlayPacket packet) {
+        final Queue<ClientPlayPacket> pool = packet.pool;
+        if (pool != null) {
+            // Left to the garbage collector if the pool is full
+            pool.offer(packet);
+        }
+    }
+}
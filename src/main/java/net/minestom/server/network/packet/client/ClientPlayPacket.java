@@ -5,10 +5,15 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Queue;
+
 public abstract class ClientPlayPacket implements ClientPacket {
 
     private static final PacketListenerManager PACKET_LISTENER_MANAGER = MinecraftServer.getPacketListenerManager();
 
+    // Pool the packet returns to once processed, null if not pooled, see ClientPacketPool
+    Queue<ClientPlayPacket> pool;
+
     /**
      * Processes the packet for {@code player}.
      * <p>
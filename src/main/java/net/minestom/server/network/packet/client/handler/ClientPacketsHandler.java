@@ -1,6 +1,7 @@
 package net.minestom.server.network.packet.client.handler;
 
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.ClientPacketPool;
 import net.minestom.server.utils.binary.BinaryReader;
 import org.jetbrains.annotations.NotNull;
 
@@ -20,6 +21,7 @@ public class ClientPacketsHandler {
     private static final int SIZE = 0x30;
 
     private final ClientPacketSupplier[] supplierAccesses = new ClientPacketSupplier[SIZE];
+    private final boolean[] pooled = new boolean[SIZE];
 
     /**
      * Registers a client packet which can be retrieved later using {@link #getPacketInstance(int)}.
@@ -29,6 +31,30 @@ public class ClientPacketsHandler {
      */
     public void register(int id, @NotNull ClientPacketSupplier packetSupplier) {
         this.supplierAccesses[id] = packetSupplier;
+        this.pooled[id] = false;
+    }
+
+    /**
+     * Registers a client packet whose instances are reused once processed, see {@link ClientPacketPool}.
+     * <p>
+     * The packet must overwrite all its fields when read, and must not be referenced once processed.
+     *
+     * @param id             the packet id
+     * @param packetSupplier the supplier of the packet
+     */
+    public void registerPooled(int id, @NotNull ClientPacketSupplier packetSupplier) {
+        register(id, packetSupplier);
+        this.pooled[id] = true;
+    }
+
+    /**
+     * Gets if the instances of a packet can be reused.
+     *
+     * @param id the packet id
+     * @return true if the packet has been registered using {@link #registerPooled(int, ClientPacketSupplier)}
+     */
+    public boolean isPooled(int id) {
+        return id >= 0 && id < SIZE && pooled[id];
     }
 
     /**
@@ -22,10 +22,10 @@ public class ClientPlayPacketsHandler extends ClientPacketsHandler {
         register(0x0F, ClientKeepAlivePacket::new);
 
         // 0x10 packet not used server-side
-        register(0x11, ClientPlayerPositionPacket::new);
-        register(0x12, ClientPlayerPositionAndRotationPacket::new);
-        register(0x13, ClientPlayerRotationPacket::new);
-        register(0x14, ClientPlayerPacket::new);
+        registerPooled(0x11, ClientPlayerPositionPacket::new);
+        registerPooled(0x12, ClientPlayerPositionAndRotationPacket::new);
+        registerPooled(0x13, ClientPlayerRotationPacket::new);
+        registerPooled(0x14, ClientPlayerPacket::new);
         register(0x15, ClientVehicleMovePacket::new);
         register(0x16, ClientSteerBoatPacket::new);
         register(0x17, ClientPickItemPacket::new);
@@ -51,7 +51,7 @@ public class ClientPlayPacketsHandler extends ClientPacketsHandler {
         //Update Jigsaw Block??
         register(0x2A, ClientUpdateStructureBlockPacket::new);
         register(0x2B, ClientUpdateSignPacket::new);
-        register(0x2C, ClientAnimationPacket::new);
+        registerPooled(0x2C, ClientAnimationPacket::new);
         register(0x2D, ClientSpectatePacket::new);
         register(0x2E, ClientPlayerBlockPlacementPacket::new);
         register(0x2F, ClientUseItemPacket::new);
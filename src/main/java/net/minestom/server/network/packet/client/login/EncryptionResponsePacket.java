@@ -42,7 +42,7 @@ public class EncryptionResponsePacket implements ClientPreplayPacket {
         }
         final NettyPlayerConnection nettyConnection = (NettyPlayerConnection) connection;
 
-        AsyncUtils.runAsync(() -> {
+        AsyncUtils.runBlocking(() -> {
             try {
                 final String loginUsername = nettyConnection.getLoginUsername();
                 if (!Arrays.equals(nettyConnection.getNonce(), getNonce())) {
@@ -0,0 +1,19 @@
+package net.minestom.server.network.packet.server;
+
+/**
+ * Defines how a {@link ServerPacket} is handled when the connection cannot keep up with the server.
+ *
+ * @see ServerPacket#getPriority()
+ * @see net.minestom.server.network.player.NettyPlayerConnection#isCongested()
+ */
+public enum PacketPriority {
+    /**
+     * The packet is always sent.
+     */
+    NORMAL,
+    /**
+     * The packet is dropped while the connection is congested, the client state being
+     * either corrected by a later packet (e.g. entity teleportation) or purely cosmetic.
+     */
+    LOW
+}
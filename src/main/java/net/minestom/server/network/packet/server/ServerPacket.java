@@ -26,4 +26,24 @@ public interface ServerPacket extends Readable, Writeable {
      */
     int getId();
 
+    /**
+     * Gets the priority of this packet, used to drop packets when the connection is congested.
+     *
+     * @return the priority of this packet
+     */
+    default @NotNull PacketPriority getPriority() {
+        return PacketPriority.NORMAL;
+    }
+
+    /**
+     * Gets the maximum size of this packet content (without its id), known for fixed-size packets.
+     * <p>
+     * Used to allocate a buffer of the right size when encoding, instead of a default sized one growing as needed.
+     *
+     * @return the maximum content size in bytes, -1 if unknown
+     */
+    default int getMaxSize() {
+        return -1;
+    }
+
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet.server.play;
 
+import net.minestom.server.network.packet.server.PacketPriority;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import net.minestom.server.utils.BlockPosition;
@@ -41,4 +42,9 @@ public class BlockBreakAnimationPacket implements ServerPacket {
     public int getId() {
         return ServerPacketIdentifier.BLOCK_BREAK_ANIMATION;
     }
-}
\ No newline at end of file
+
+    @Override
+    public @NotNull PacketPriority getPriority() {
+        return PacketPriority.LOW;
+    }
+}
@@ -1,7 +1,6 @@
 package net.minestom.server.network.packet.server.play;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.Int2LongRBTreeMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
@@ -78,64 +77,66 @@ public class ChunkDataPacket implements ServerPacket, CacheablePacket {
         writer.writeInt(chunkX);
         writer.writeInt(chunkZ);
 
-        ByteBuf blocks = Unpooled.buffer(MAX_BUFFER_SIZE);
+        try (BinaryWriter blocksWriter = BinaryWriter.scratch()) {
+            ByteBuf blocks = blocksWriter.getBuffer();
+            blocks.ensureWritable(MAX_BUFFER_SIZE);
 
-        Int2LongRBTreeMap maskMap = new Int2LongRBTreeMap();
+            Int2LongRBTreeMap maskMap = new Int2LongRBTreeMap();
 
-        for (var entry : paletteStorage.getSectionMap().int2ObjectEntrySet()) {
-            final int index = entry.getIntKey();
-            final Section section = entry.getValue();
+            for (var entry : paletteStorage.getSectionMap().int2ObjectEntrySet()) {
+                final int index = entry.getIntKey();
+                final Section section = entry.getValue();
 
-            final int lengthIndex = index % 64;
-            final int maskIndex = index / 64;
+                final int lengthIndex = index % 64;
+                final int maskIndex = index / 64;
 
-            long mask = maskMap.get(maskIndex);
-            mask |= 1L << lengthIndex;
-            maskMap.put(maskIndex, mask);
+                long mask = maskMap.get(maskIndex);
+                mask |= 1L << lengthIndex;
+                maskMap.put(maskIndex, mask);
 
-            Utils.writeSectionBlocks(blocks, section);
-        }
+                Utils.writeSectionBlocks(blocks, section);
+            }
 
-        final int maskSize = maskMap.size();
-        writer.writeVarInt(maskSize);
-        for (int i = 0; i < maskSize; i++) {
-            final long value = maskMap.containsKey(i) ? maskMap.get(i) : 0;
-            writer.writeLong(value);
-        }
+            final int maskSize = maskMap.size();
+            writer.writeVarInt(maskSize);
+            for (int i = 0; i < maskSize; i++) {
+                final long value = maskMap.containsKey(i) ? maskMap.get(i) : 0;
+                writer.writeLong(value);
+            }
 
-        // TODO: don't hardcode heightmaps
-        // Heightmap
-        int[] motionBlocking = new int[16 * 16];
-        int[] worldSurface = new int[16 * 16];
-        for (int x = 0; x < 16; x++) {
-            for (int z = 0; z < 16; z++) {
-                motionBlocking[x + z * 16] = 4;
-                worldSurface[x + z * 16] = 5;
+            // TODO: don't hardcode heightmaps
+            // Heightmap
+            int[] motionBlocking = new int[16 * 16];
+            int[] worldSurface = new int[16 * 16];
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    motionBlocking[x + z * 16] = 4;
+                    worldSurface[x + z * 16] = 5;
+                }
             }
-        }
 
-        {
-            writer.writeNBT("",
-                    new NBTCompound()
-                            .setLongArray("MOTION_BLOCKING", Utils.encodeBlocks(motionBlocking, 9))
-                            .setLongArray("WORLD_SURFACE", Utils.encodeBlocks(worldSurface, 9))
-            );
-        }
+            {
+                writer.writeNBT("",
+                        new NBTCompound()
+                                .setLongArray("MOTION_BLOCKING", Utils.encodeBlocks(motionBlocking, 9))
+                                .setLongArray("WORLD_SURFACE", Utils.encodeBlocks(worldSurface, 9))
+                );
+            }
 
-        // Biomes
-        if (biomes == null || biomes.length == 0) {
-            writer.writeVarInt(0);
-        } else {
-            writer.writeVarInt(biomes.length);
-            for (Biome biome : biomes) {
-                writer.writeVarInt(biome.getId());
+            // Biomes
+            if (biomes == null || biomes.length == 0) {
+                writer.writeVarInt(0);
+            } else {
+                writer.writeVarInt(biomes.length);
+                for (Biome biome : biomes) {
+                    writer.writeVarInt(biome.getId());
+                }
             }
-        }
 
-        // Data
-        writer.writeVarInt(blocks.writerIndex());
-        writer.write(blocks);
-        blocks.release();
+            // Data
+            writer.writeVarInt(blocks.writerIndex());
+            writer.write(blocks);
+        }
 
         // Block entities
         if (blockEntities == null) {
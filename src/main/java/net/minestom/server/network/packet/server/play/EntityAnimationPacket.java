@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet.server.play;
 
+import net.minestom.server.network.packet.server.PacketPriority;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import net.minestom.server.utils.binary.BinaryReader;
@@ -40,4 +41,9 @@ public class EntityAnimationPacket implements ServerPacket {
         CRITICAL_EFFECT,
         MAGICAL_CRITICAL_EFFECT
     }
+
+    @Override
+    public @NotNull PacketPriority getPriority() {
+        return PacketPriority.LOW;
+    }
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet.server.play;
 
+import net.minestom.server.network.packet.server.PacketPriority;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import net.minestom.server.utils.binary.BinaryReader;
@@ -29,4 +30,15 @@ public class EntityHeadLookPacket implements ServerPacket {
     public int getId() {
         return ServerPacketIdentifier.ENTITY_HEAD_LOOK;
     }
+
+    @Override
+    public @NotNull PacketPriority getPriority() {
+        return PacketPriority.LOW;
+    }
+
+    @Override
+    public int getMaxSize() {
+        // Entity id and angle
+        return 5 + 1;
+    }
 }
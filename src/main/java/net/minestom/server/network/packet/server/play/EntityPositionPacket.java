@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet.server.play;
 
+import net.minestom.server.network.packet.server.PacketPriority;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import net.minestom.server.utils.Position;
@@ -51,4 +52,15 @@ public class EntityPositionPacket implements ServerPacket {
 
         return entityPositionPacket;
     }
+
+    @Override
+    public @NotNull PacketPriority getPriority() {
+        return PacketPriority.LOW;
+    }
+
+    @Override
+    public int getMaxSize() {
+        // Entity id, deltas and on ground
+        return 5 + 3 * Short.BYTES + 1;
+    }
 }
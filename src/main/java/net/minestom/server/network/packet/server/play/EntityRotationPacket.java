@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet.server.play;
 
+import net.minestom.server.network.packet.server.PacketPriority;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
 import net.minestom.server.utils.binary.BinaryReader;
@@ -47,4 +48,15 @@ public class EntityRotationPacket implements ServerPacket {
 
         return entityRotationPacket;
     }
+
+    @Override
+    public @NotNull PacketPriority getPriority() {
+        return PacketPriority.LOW;
+    }
+
+    @Override
+    public int getMaxSize() {
+        // Entity id, angles and on ground
+        return 5 + 2 + 1;
+    }
 }
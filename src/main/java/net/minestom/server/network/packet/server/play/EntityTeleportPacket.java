@@ -45,4 +45,10 @@ public class EntityTeleportPacket implements ServerPacket {
     public int getId() {
         return ServerPacketIdentifier.ENTITY_TELEPORT;
     }
+
+    @Override
+    public int getMaxSize() {
+        // Entity id, position, angles and on ground
+        return 5 + 3 * Double.BYTES + 2 + 1;
+    }
 }
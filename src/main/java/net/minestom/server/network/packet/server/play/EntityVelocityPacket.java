@@ -33,4 +33,10 @@ public class EntityVelocityPacket implements ServerPacket {
     public int getId() {
         return ServerPacketIdentifier.ENTITY_VELOCITY;
     }
+
+    @Override
+    public int getMaxSize() {
+        // Entity id and velocity
+        return 5 + 3 * Short.BYTES;
+    }
 }
@@ -30,4 +30,9 @@ public class KeepAlivePacket implements ServerPacket {
     public int getId() {
         return ServerPacketIdentifier.KEEP_ALIVE;
     }
+
+    @Override
+    public int getMaxSize() {
+        return Long.BYTES;
+    }
 }
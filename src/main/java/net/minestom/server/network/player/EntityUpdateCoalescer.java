@@ -0,0 +1,320 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.Position;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Merges the movement packets of each entity sent to a connection between two flushes,
+ * so only the final state of the entity is sent.
+ * <p>
+ * Relative movements are summed, rotations, head looks and velocities are replaced by the latest one,
+ * and a teleportation replaces all the movements before it. Position and rotation
+ * are sent as a single {@link EntityPositionAndRotationPacket} when both changed.
+ * <p>
+ * The pending updates of an entity are sent before any other packet targeting it (spawn, metadata, equipment, passengers...)
+ * to keep the order of its packets, see {@link #emitBefore(ServerPacket, Consumer)}.
+ * Only the order relative to the packets of other entities can change.
+ *
+ * @see net.minestom.server.MinecraftServer#setEntityUpdateCoalescing(boolean)
+ */
+@ApiStatus.Internal
+public final class EntityUpdateCoalescer {
+
+    // Relative movements are in 1/4096 of a block
+    private static final double DELTA_SCALE = 32 * 128;
+
+    private final Map<Integer, PendingUpdate> pendingUpdates = new ConcurrentHashMap<>();
+
+    /**
+     * Gets if a packet is merged with the pending updates of its entity.
+     *
+     * @param packet the packet
+     * @return true if the packet has to go through {@link #offer(ServerPacket, Consumer)}
+     */
+    public static boolean isMergeable(@NotNull ServerPacket packet) {
+        return packet instanceof EntityPositionPacket || packet instanceof EntityRotationPacket ||
+                packet instanceof EntityPositionAndRotationPacket || packet instanceof EntityHeadLookPacket ||
+                packet instanceof EntityTeleportPacket || packet instanceof EntityVelocityPacket;
+    }
+
+    /**
+     * Merges a packet with the pending updates of its entity.
+     *
+     * @param packet the packet to send
+     * @param sink   where the pending updates are sent if they have to be sent before the packet
+     * @return true if the packet has been merged and must not be sent
+     */
+    public boolean offer(@NotNull ServerPacket packet, @NotNull Consumer<ServerPacket> sink) {
+        if (isMergeable(packet)) {
+            final int entityId = getEntityId(packet);
+            this.pendingUpdates.compute(entityId, (id, pendingUpdate) -> {
+                if (pendingUpdate == null)
+                    pendingUpdate = new PendingUpdate(id);
+                pendingUpdate.merge(packet);
+                return pendingUpdate;
+            });
+            return true;
+        }
+        emitBefore(packet, sink);
+        return false;
+    }
+
+    /**
+     * Sends the pending updates of the entities targeted by a packet, before the packet itself is sent.
+     * <p>
+     * Called by {@link #offer(ServerPacket, Consumer)}, and directly for the packets written already framed.
+     *
+     * @param packet the packet about to be sent
+     * @param sink   the consumer of the merged packets
+     */
+    public void emitBefore(@NotNull ServerPacket packet, @NotNull Consumer<ServerPacket> sink) {
+        if (pendingUpdates.isEmpty())
+            return;
+        if (packet instanceof AttachEntityPacket) {
+            final AttachEntityPacket attachEntityPacket = (AttachEntityPacket) packet;
+            emit(attachEntityPacket.attachedEntityId, sink);
+            emit(attachEntityPacket.holdingEntityId, sink);
+        } else if (packet instanceof SetPassengersPacket) {
+            final SetPassengersPacket setPassengersPacket = (SetPassengersPacket) packet;
+            emit(setPassengersPacket.vehicleEntityId, sink);
+            if (setPassengersPacket.passengersId != null) {
+                for (int passengerId : setPassengersPacket.passengersId) {
+                    emit(passengerId, sink);
+                }
+            }
+        } else if (packet instanceof CollectItemPacket) {
+            final CollectItemPacket collectItemPacket = (CollectItemPacket) packet;
+            emit(collectItemPacket.collectedEntityId, sink);
+            emit(collectItemPacket.collectorEntityId, sink);
+        } else {
+            final int entityId = getTargetedEntityId(packet);
+            if (entityId != -1) {
+                emit(entityId, sink);
+            }
+        }
+    }
+
+    /**
+     * Sends all the pending updates.
+     *
+     * @param sink the consumer of the merged packets
+     */
+    public void drain(@NotNull Consumer<ServerPacket> sink) {
+        for (Integer entityId : pendingUpdates.keySet()) {
+            final PendingUpdate pendingUpdate = pendingUpdates.remove(entityId);
+            if (pendingUpdate != null) {
+                pendingUpdate.emit(sink);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return pendingUpdates.isEmpty();
+    }
+
+    private void emit(int entityId, @NotNull Consumer<ServerPacket> sink) {
+        final PendingUpdate pendingUpdate = pendingUpdates.remove(entityId);
+        if (pendingUpdate != null) {
+            pendingUpdate.emit(sink);
+        }
+    }
+
+    private static int getEntityId(@NotNull ServerPacket packet) {
+        if (packet instanceof EntityPositionPacket)
+            return ((EntityPositionPacket) packet).entityId;
+        if (packet instanceof EntityRotationPacket)
+            return ((EntityRotationPacket) packet).entityId;
+        if (packet instanceof EntityPositionAndRotationPacket)
+            return ((EntityPositionAndRotationPacket) packet).entityId;
+        if (packet instanceof EntityHeadLookPacket)
+            return ((EntityHeadLookPacket) packet).entityId;
+        if (packet instanceof EntityTeleportPacket)
+            return ((EntityTeleportPacket) packet).entityId;
+        return ((EntityVelocityPacket) packet).entityId;
+    }
+
+    private static int getTargetedEntityId(@NotNull ServerPacket packet) {
+        if (packet instanceof SpawnEntityPacket)
+            return ((SpawnEntityPacket) packet).entityId;
+        if (packet instanceof SpawnLivingEntityPacket)
+            return ((SpawnLivingEntityPacket) packet).entityId;
+        if (packet instanceof SpawnPlayerPacket)
+            return ((SpawnPlayerPacket) packet).entityId;
+        if (packet instanceof SpawnExperienceOrbPacket)
+            return ((SpawnExperienceOrbPacket) packet).entityId;
+        if (packet instanceof SpawnPaintingPacket)
+            return ((SpawnPaintingPacket) packet).entityId;
+        if (packet instanceof DestroyEntityPacket)
+            return ((DestroyEntityPacket) packet).entityId;
+        if (packet instanceof EntityMetaDataPacket)
+            return ((EntityMetaDataPacket) packet).entityId;
+        if (packet instanceof EntityEquipmentPacket)
+            return ((EntityEquipmentPacket) packet).entityId;
+        if (packet instanceof EntityStatusPacket)
+            return ((EntityStatusPacket) packet).entityId;
+        if (packet instanceof EntityAnimationPacket)
+            return ((EntityAnimationPacket) packet).entityId;
+        if (packet instanceof EntityEffectPacket)
+            return ((EntityEffectPacket) packet).entityId;
+        if (packet instanceof RemoveEntityEffectPacket)
+            return ((RemoveEntityEffectPacket) packet).entityId;
+        if (packet instanceof EntityPropertiesPacket)
+            return ((EntityPropertiesPacket) packet).entityId;
+        if (packet instanceof EntitySoundEffectPacket)
+            return ((EntitySoundEffectPacket) packet).entityId;
+        if (packet instanceof CameraPacket)
+            return ((CameraPacket) packet).cameraId;
+        return -1;
+    }
+
+    /**
+     * State of an entity built from the packets received since the last flush,
+     * only modified in {@link Map#compute(Object, java.util.function.BiFunction)} or once removed from the map.
+     */
+    private static final class PendingUpdate {
+        private final int entityId;
+
+        // Absolute position, relative movements after a teleportation are applied to it
+        private Position teleport;
+        private long deltaX, deltaY, deltaZ;
+        private boolean moved;
+        private float yaw, pitch;
+        private boolean rotated;
+        private boolean onGround;
+
+        private float headYaw;
+        private boolean headLook;
+
+        private EntityVelocityPacket velocity;
+
+        private PendingUpdate(int entityId) {
+            this.entityId = entityId;
+        }
+
+        private void merge(@NotNull ServerPacket packet) {
+            if (packet instanceof EntityTeleportPacket) {
+                final EntityTeleportPacket teleportPacket = (EntityTeleportPacket) packet;
+                this.teleport = teleportPacket.position.clone();
+                this.deltaX = deltaY = deltaZ = 0;
+                this.moved = rotated = false;
+                this.onGround = teleportPacket.onGround;
+            } else if (packet instanceof EntityPositionPacket) {
+                final EntityPositionPacket positionPacket = (EntityPositionPacket) packet;
+                move(positionPacket.deltaX, positionPacket.deltaY, positionPacket.deltaZ);
+                this.onGround = positionPacket.onGround;
+            } else if (packet instanceof EntityPositionAndRotationPacket) {
+                final EntityPositionAndRotationPacket positionAndRotationPacket = (EntityPositionAndRotationPacket) packet;
+                move(positionAndRotationPacket.deltaX, positionAndRotationPacket.deltaY, positionAndRotationPacket.deltaZ);
+                rotate(positionAndRotationPacket.yaw, positionAndRotationPacket.pitch);
+                this.onGround = positionAndRotationPacket.onGround;
+            } else if (packet instanceof EntityRotationPacket) {
+                final EntityRotationPacket rotationPacket = (EntityRotationPacket) packet;
+                rotate(rotationPacket.yaw, rotationPacket.pitch);
+                this.onGround = rotationPacket.onGround;
+            } else if (packet instanceof EntityHeadLookPacket) {
+                this.headYaw = ((EntityHeadLookPacket) packet).yaw;
+                this.headLook = true;
+            } else if (packet instanceof EntityVelocityPacket) {
+                this.velocity = (EntityVelocityPacket) packet;
+            }
+        }
+
+        private void move(short deltaX, short deltaY, short deltaZ) {
+            if (teleport != null) {
+                this.teleport.add(deltaX / DELTA_SCALE, deltaY / DELTA_SCALE, deltaZ / DELTA_SCALE);
+            } else {
+                this.deltaX += deltaX;
+                this.deltaY += deltaY;
+                this.deltaZ += deltaZ;
+                this.moved = true;
+            }
+        }
+
+        private void rotate(float yaw, float pitch) {
+            if (teleport != null) {
+                this.teleport.setYaw(yaw);
+                this.teleport.setPitch(pitch);
+            } else {
+                this.yaw = yaw;
+                this.pitch = pitch;
+                this.rotated = true;
+            }
+        }
+
+        private void emit(@NotNull Consumer<ServerPacket> sink) {
+            if (teleport != null) {
+                EntityTeleportPacket teleportPacket = new EntityTeleportPacket();
+                teleportPacket.entityId = entityId;
+                teleportPacket.position = teleport;
+                teleportPacket.onGround = onGround;
+                sink.accept(teleportPacket);
+            } else if (moved || rotated) {
+                // Summed movements may not fit in a single packet
+                while (moved && !fitsInShort()) {
+                    EntityPositionPacket positionPacket = new EntityPositionPacket();
+                    positionPacket.entityId = entityId;
+                    positionPacket.deltaX = takeDelta(deltaX);
+                    positionPacket.deltaY = takeDelta(deltaY);
+                    positionPacket.deltaZ = takeDelta(deltaZ);
+                    positionPacket.onGround = onGround;
+                    this.deltaX -= positionPacket.deltaX;
+                    this.deltaY -= positionPacket.deltaY;
+                    this.deltaZ -= positionPacket.deltaZ;
+                    sink.accept(positionPacket);
+                }
+
+                if (moved && rotated) {
+                    EntityPositionAndRotationPacket positionAndRotationPacket = new EntityPositionAndRotationPacket();
+                    positionAndRotationPacket.entityId = entityId;
+                    positionAndRotationPacket.deltaX = (short) deltaX;
+                    positionAndRotationPacket.deltaY = (short) deltaY;
+                    positionAndRotationPacket.deltaZ = (short) deltaZ;
+                    positionAndRotationPacket.yaw = yaw;
+                    positionAndRotationPacket.pitch = pitch;
+                    positionAndRotationPacket.onGround = onGround;
+                    sink.accept(positionAndRotationPacket);
+                } else if (moved) {
+                    EntityPositionPacket positionPacket = new EntityPositionPacket();
+                    positionPacket.entityId = entityId;
+                    positionPacket.deltaX = (short) deltaX;
+                    positionPacket.deltaY = (short) deltaY;
+                    positionPacket.deltaZ = (short) deltaZ;
+                    positionPacket.onGround = onGround;
+                    sink.accept(positionPacket);
+                } else {
+                    EntityRotationPacket rotationPacket = new EntityRotationPacket();
+                    rotationPacket.entityId = entityId;
+                    rotationPacket.yaw = yaw;
+                    rotationPacket.pitch = pitch;
+                    rotationPacket.onGround = onGround;
+                    sink.accept(rotationPacket);
+                }
+            }
+
+            if (headLook) {
+                EntityHeadLookPacket headLookPacket = new EntityHeadLookPacket();
+                headLookPacket.entityId = entityId;
+                headLookPacket.yaw = headYaw;
+                sink.accept(headLookPacket);
+            }
+            if (velocity != null) {
+                sink.accept(velocity);
+            }
+        }
+
+        private boolean fitsInShort() {
+            return deltaX == (short) deltaX && deltaY == (short) deltaY && deltaZ == (short) deltaZ;
+        }
+
+        private static short takeDelta(long delta) {
+            return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, delta));
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package net.minestom.server.network.player;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannelConfig;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.internal.PlatformDependent;
 
 import java.util.Objects;
 
@@ -11,29 +17,42 @@ import net.kyori.adventure.translation.GlobalTranslator;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.adventure.AdventureSerializer;
 import net.minestom.server.adventure.MinestomAdventure;
+import net.minestom.server.entity.Player;
 import net.minestom.server.entity.PlayerSkin;
 import net.minestom.server.extras.mojangAuth.Decrypter;
 import net.minestom.server.extras.mojangAuth.Encrypter;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.monitoring.NetworkMetrics;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.netty.NettyServer;
+import net.minestom.server.network.netty.PacketEncodingStage;
+import net.minestom.server.network.netty.TransportConfig;
 import net.minestom.server.network.netty.codec.PacketCompressor;
 import net.minestom.server.network.netty.packet.FramedPacket;
+import net.minestom.server.network.packet.client.ClientPacketPool;
 import net.minestom.server.network.packet.server.ComponentHoldingServerPacket;
+import net.minestom.server.network.packet.server.PacketPriority;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
 import net.minestom.server.utils.BufUtils;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.cache.CacheablePacket;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.crypto.SecretKey;
 import java.net.SocketAddress;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Represents a networking connection with Netty.
@@ -42,6 +61,14 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class NettyPlayerConnection extends PlayerConnection {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(NettyPlayerConnection.class);
+
+    /**
+     * Maximum number of bytes waiting to be sent before the connection is closed,
+     * prevents slow clients from filling the memory.
+     */
+    public static final long MAX_PENDING_BYTES = Long.getLong("minestom.max-pending-bytes", 16 << 20);
+
     private final SocketChannel channel;
 
     private SocketAddress remoteAddress;
@@ -66,8 +93,39 @@ public class NettyPlayerConnection extends PlayerConnection {
     private UUID bungeeUuid;
     private PlayerSkin bungeeSkin;
 
-    private final Object tickBufferLock = new Object();
-    private volatile ByteBuf tickBuffer = BufUtils.direct();
+    /**
+     * Queued buffers smaller than this are copied together when flushing,
+     * copying being cheaper than adding a component to the flushed {@link CompositeByteBuf}.
+     */
+    private static final int SHARED_BUFFER_MIN_SIZE = 128;
+
+    // Framed packets (or server packets to encode, see MinecraftServer#hasDeferredPacketEncoding) waiting to be flushed,
+    // in write order, offered without locking by the tick threads
+    private final Queue<Object> outboundQueue = PlatformDependent.newMpscQueue();
+    // Held by the thread draining the queue, never by the writing threads
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    // Updated by the channel event loop when the channel writability changes
+    private volatile boolean congested;
+    private volatile int congestionCount;
+    private volatile long congestionStart;
+    private volatile long congestedTime;
+    // Set by the event loop, consumed by the player tick, see #pollCongestionChange()
+    private volatile boolean congestionChanged;
+    private final LongAdder droppedPackets = new LongAdder();
+
+    // Only recorded if network metrics are enabled
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder receivedBytes = new LongAdder();
+    private final LongAdder receivedPackets = new LongAdder();
+
+    // Null if entity update coalescing is disabled
+    private final EntityUpdateCoalescer entityUpdateCoalescer = MinecraftServer.isEntityUpdateCoalescing() ?
+            new EntityUpdateCoalescer() : null;
+    private final Consumer<ServerPacket> coalescedPacketSink = this::enqueuePacket;
+
+    private final ClientPacketPool packetPool = new ClientPacketPool();
 
     public NettyPlayerConnection(@NotNull SocketChannel channel) {
         super();
@@ -102,7 +160,8 @@ public class NettyPlayerConnection extends PlayerConnection {
 
         this.compressed = true;
         writeAndFlush(new SetCompressionPacket(threshold));
-        channel.pipeline().addAfter(NettyServer.FRAMER_HANDLER_NAME, NettyServer.COMPRESSOR_HANDLER_NAME,
+        // After the rate limiter, packets over the limit are not decompressed
+        channel.pipeline().addAfter(NettyServer.RATE_LIMITER_HANDLER_NAME, NettyServer.COMPRESSOR_HANDLER_NAME,
                 new PacketCompressor(threshold));
     }
 
@@ -120,13 +179,13 @@ public class NettyPlayerConnection extends PlayerConnection {
 
         if (shouldSendPacket(serverPacket)) {
             if (getPlayer() != null) {
+                if (dropIfCongested(serverPacket))
+                    return;
                 // Flush happen during #update()
-                if (serverPacket instanceof CacheablePacket && MinecraftServer.hasPacketCaching()) {
-                    synchronized (tickBufferLock) {
-                        if (tickBuffer.refCnt() == 0)
-                            return;
-                        CacheablePacket.writeCache(tickBuffer, serverPacket);
-                    }
+                if (serverPacket instanceof CacheablePacket && MinecraftServer.hasPacketCaching() &&
+                        !MinecraftServer.hasDeferredPacketEncoding()) {
+                    final ByteBuf cache = CacheablePacket.retainCache(serverPacket);
+                    enqueue(cache != null ? cache : PacketUtils.createFramedPacket(serverPacket));
                 } else {
                     write(serverPacket, skipTranslating);
                 }
@@ -144,12 +203,7 @@ public class NettyPlayerConnection extends PlayerConnection {
     public void write(@NotNull Object message, boolean skipTranslating) {
         if (message instanceof FramedPacket) {
             final FramedPacket framedPacket = (FramedPacket) message;
-            synchronized (tickBufferLock) {
-                if (tickBuffer.refCnt() == 0)
-                    return;
-                final ByteBuf body = framedPacket.getBody();
-                tickBuffer.writeBytes(body, body.readerIndex(), body.readableBytes());
-            }
+            enqueue(framedPacket.getBody().retainedSlice());
             return;
         } else if (message instanceof ServerPacket) {
             ServerPacket serverPacket = (ServerPacket) message;
@@ -159,23 +213,115 @@ public class NettyPlayerConnection extends PlayerConnection {
                         GlobalTranslator.render(component, Objects.requireNonNullElseGet(getPlayer().getLocale(), MinestomAdventure::getDefaultLocale)));
             }
 
-            synchronized (tickBufferLock) {
-                if (tickBuffer.refCnt() == 0)
-                    return;
-                PacketUtils.writeFramedPacket(tickBuffer, serverPacket);
-            }
+            if (entityUpdateCoalescer != null && entityUpdateCoalescer.offer(serverPacket, coalescedPacketSink))
+                return;
+            enqueuePacket(serverPacket);
             return;
         } else if (message instanceof ByteBuf) {
-            synchronized (tickBufferLock) {
-                if (tickBuffer.refCnt() == 0)
-                    return;
-                tickBuffer.writeBytes((ByteBuf) message);
-            }
+            // The buffer is still owned by the caller
+            enqueue(BufUtils.direct().writeBytes((ByteBuf) message));
             return;
         }
         throw new UnsupportedOperationException("type " + message.getClass() + " is not supported");
     }
 
+    /**
+     * Sends the merged movements of the entities targeted by a packet (see {@link EntityUpdateCoalescer}),
+     * must be called before writing a packet already framed so the movements are not sent after it.
+     *
+     * @param serverPacket the packet about to be written
+     */
+    @ApiStatus.Internal
+    public void emitEntityUpdates(@NotNull ServerPacket serverPacket) {
+        if (entityUpdateCoalescer != null) {
+            this.entityUpdateCoalescer.emitBefore(serverPacket, coalescedPacketSink);
+        }
+    }
+
+    /**
+     * Queues a packet, encoded now or when the queue is drained
+     * depending on {@link MinecraftServer#hasDeferredPacketEncoding()}.
+     *
+     * @param serverPacket the packet to send
+     */
+    private void enqueuePacket(@NotNull ServerPacket serverPacket) {
+        if (MinecraftServer.hasDeferredPacketEncoding()) {
+            enqueue(serverPacket);
+        } else {
+            enqueue(PacketUtils.createFramedPacket(serverPacket));
+        }
+    }
+
+    /**
+     * Queues a buffer or a packet to be flushed after the previously written packets.
+     * <p>
+     * Lock-free, can be called by multiple threads at once.
+     *
+     * @param message the framed packets, released once written, or a {@link ServerPacket} encoded when drained
+     */
+    private void enqueue(@NotNull Object message) {
+        if (closed) {
+            ReferenceCountUtil.release(message);
+            return;
+        }
+        this.outboundQueue.offer(message);
+        if (closed) {
+            // Closed concurrently, the buffer may have been missed by #releaseTickBuffer
+            releaseQueue();
+        }
+    }
+
+    /**
+     * Drops a packet if it has a {@link PacketPriority#LOW low priority} and the connection is congested.
+     *
+     * @param serverPacket the packet to send
+     * @return true if the packet has been dropped and should not be sent
+     */
+    @ApiStatus.Internal
+    public boolean dropIfCongested(@NotNull ServerPacket serverPacket) {
+        if (congested && serverPacket.getPriority() == PacketPriority.LOW) {
+            this.droppedPackets.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Refreshes the congestion state from the channel writability, see {@link #isCongested()}.
+     * <p>
+     * Called from the channel event loop, the change is handled by the next tick of the player
+     * (see {@link #pollCongestionChange()}).
+     */
+    @ApiStatus.Internal
+    public void refreshCongestion() {
+        final boolean congested = !channel.isWritable();
+        if (congested == this.congested)
+            return;
+        this.congested = congested;
+        if (congested) {
+            this.congestionCount++;
+            this.congestionStart = System.nanoTime();
+        } else {
+            this.congestedTime += System.nanoTime() - congestionStart;
+        }
+        this.congestionChanged = true;
+    }
+
+    /**
+     * Gets if the congestion state changed since the last call, and resets the change.
+     * <p>
+     * Called from the tick thread of the player.
+     *
+     * @return true if {@link #isCongested()} changed since the last call
+     */
+    @ApiStatus.Internal
+    public boolean pollCongestionChange() {
+        if (!congestionChanged)
+            return false;
+        this.congestionChanged = false;
+        return true;
+    }
+
     public void writeAndFlush(@NotNull Object message) {
         writeWaitingPackets();
         ChannelFuture channelFuture = channel.writeAndFlush(message);
@@ -190,23 +336,59 @@ public class NettyPlayerConnection extends PlayerConnection {
     }
 
     public void writeWaitingPackets() {
-        if (tickBuffer.writerIndex() == 0) {
+        writeQueue();
+    }
+
+    /**
+     * Writes the waiting packets to the channel, without flushing it.
+     *
+     * @return true if packets have been written
+     */
+    private boolean writeQueue() {
+        if (entityUpdateCoalescer != null) {
+            this.entityUpdateCoalescer.drain(coalescedPacketSink);
+        }
+        if (outboundQueue.isEmpty()) {
             // Nothing to write
-            return;
+            return false;
         }
 
-        // Retrieve safe copy
-        final ByteBuf copy;
-        synchronized (tickBufferLock) {
-            if (tickBuffer.refCnt() == 0)
-                return;
-            copy = tickBuffer;
-            tickBuffer = tickBuffer.alloc().buffer(tickBuffer.writerIndex());
+        final ByteBuf buffer;
+        this.drainLock.lock();
+        try {
+            if (closed) {
+                releaseQueue();
+                return false;
+            }
+            buffer = drainQueue();
+        } finally {
+            this.drainLock.unlock();
         }
 
-        // Write copied buffer to netty
-        ChannelFuture channelFuture = channel.write(new FramedPacket(copy));
-        channelFuture.addListener(future -> copy.release());
+        if (!buffer.isReadable()) {
+            // Drained concurrently
+            buffer.release();
+            return false;
+        }
+
+        if (getPendingBytes() + buffer.readableBytes() > MAX_PENDING_BYTES) {
+            // The client does not read fast enough
+            buffer.release();
+            LOGGER.warn("{} has more than {} bytes waiting to be sent, closing the connection", this, MAX_PENDING_BYTES);
+            disconnect();
+            return false;
+        }
+
+        final NetworkMetrics networkMetrics = MinecraftServer.getNetworkMetrics();
+        if (networkMetrics.isEnabled()) {
+            final int bytes = buffer.readableBytes();
+            networkMetrics.recordFlush(bytes);
+            this.sentBytes.add(bytes);
+        }
+
+        // Write drained buffer to netty
+        ChannelFuture channelFuture = channel.write(new FramedPacket(buffer));
+        channelFuture.addListener(future -> buffer.release());
 
         // Netty debug
         if (MinecraftServer.shouldProcessNettyErrors()) {
@@ -216,16 +398,203 @@ public class NettyPlayerConnection extends PlayerConnection {
                 }
             });
         }
+        return true;
     }
 
-    public void flush() {
-        final int bufferSize = tickBuffer.writerIndex();
-        if (bufferSize > 0) {
-            if (channel.isActive()) {
-                writeWaitingPackets();
-                channel.flush();
+    /**
+     * Writes and flushes the waiting packets.
+     * <p>
+     * Called at the end of each tick, from the channel event loop.
+     * The socket options of the {@link TransportConfig} are only applied when packets have been written,
+     * since corking is only relevant once the data reaches the socket during {@link Channel#flush()}.
+     *
+     * @return true if packets have been flushed
+     */
+    public boolean flush() {
+        if (!channel.isActive() || !writeQueue())
+            return false;
+        final TransportConfig transportConfig = MinecraftServer.getTransportConfig();
+        final EpollSocketChannelConfig config = channel instanceof EpollSocketChannel ?
+                ((EpollSocketChannel) channel).config() : null;
+        final boolean cork = config != null && transportConfig.isTcpCork();
+        if (cork) {
+            config.setTcpCork(true);
+        }
+        channel.flush();
+        if (config != null) {
+            if (cork) {
+                // Sends the last partial segment
+                config.setTcpCork(false);
+            }
+            if (transportConfig.isTcpQuickAck()) {
+                config.setTcpQuickAck(true);
             }
         }
+        return true;
+    }
+
+    /**
+     * Gathers the queued buffers, large ones are added as components without being copied
+     * while consecutive small ones are copied in a single buffer. Queued packets are encoded here,
+     * those failing to be encoded are reported to the {@link net.minestom.server.exception.ExceptionManager} and skipped.
+     * <p>
+     * Must be called with {@link #drainLock} held.
+     *
+     * @return the queued packets
+     */
+    private @NotNull ByteBuf drainQueue() {
+        CompositeByteBuf composite = BufUtils.compositeDirect();
+        ByteBuf batch = null;
+        boolean success = false;
+        try {
+            Object message;
+            while ((message = outboundQueue.poll()) != null) {
+                final ByteBuf buffer;
+                if (message instanceof ServerPacket) {
+                    try {
+                        buffer = PacketEncodingStage.encode((ServerPacket) message);
+                    } catch (Exception e) {
+                        // Skip the packet, the next ones can still be sent
+                        MinecraftServer.getExceptionManager().handleException(e);
+                        continue;
+                    }
+                } else {
+                    buffer = (ByteBuf) message;
+                }
+                if (buffer.readableBytes() < SHARED_BUFFER_MIN_SIZE) {
+                    if (batch == null)
+                        batch = BufUtils.direct();
+                    try {
+                        batch.writeBytes(buffer);
+                    } finally {
+                        buffer.release();
+                    }
+                } else {
+                    if (batch != null) {
+                        composite.addComponent(true, batch);
+                        batch = null;
+                    }
+                    composite.addComponent(true, buffer);
+                }
+            }
+            if (batch != null) {
+                composite.addComponent(true, batch);
+                batch = null;
+            }
+            success = true;
+            return composite;
+        } finally {
+            if (!success) {
+                if (batch != null) {
+                    batch.release();
+                }
+                composite.release();
+            }
+        }
+    }
+
+    private void releaseQueue() {
+        this.drainLock.lock();
+        try {
+            Object message;
+            while ((message = outboundQueue.poll()) != null) {
+                ReferenceCountUtil.release(message);
+            }
+        } finally {
+            this.drainLock.unlock();
+        }
+    }
+
+    /**
+     * Gets if the connection is congested, meaning that more than the high water mark of the channel
+     * is waiting to be sent. {@link PacketPriority#LOW Low priority} packets are dropped while congested.
+     *
+     * @return true if the connection is congested
+     */
+    public boolean isCongested() {
+        return congested;
+    }
+
+    /**
+     * Gets the number of times the connection became congested.
+     *
+     * @return the congestion count
+     */
+    public int getCongestionCount() {
+        return congestionCount;
+    }
+
+    /**
+     * Gets the total time spent congested, including the current congestion.
+     * <p>
+     * A high value compared to the connection time reveals a client too slow for the server.
+     *
+     * @return the congested time in milliseconds
+     */
+    public long getCongestedTime() {
+        long time = congestedTime;
+        if (congested) {
+            time += System.nanoTime() - congestionStart;
+        }
+        return time / 1_000_000;
+    }
+
+    /**
+     * Gets the number of packets dropped because the connection was congested.
+     *
+     * @return the dropped packet count
+     */
+    public long getDroppedPacketCount() {
+        return droppedPackets.sum();
+    }
+
+    /**
+     * Gets the number of bytes written to this connection while {@link NetworkMetrics network metrics} were enabled.
+     *
+     * @return the sent bytes
+     */
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    /**
+     * Gets the number of bytes received from this connection while {@link NetworkMetrics network metrics} were enabled,
+     * measured after decompression.
+     *
+     * @return the received bytes
+     */
+    public long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+    /**
+     * Gets the number of packets received from this connection while {@link NetworkMetrics network metrics} were enabled.
+     *
+     * @return the received packet count
+     */
+    public long getReceivedPackets() {
+        return receivedPackets.sum();
+    }
+
+    /**
+     * Records a packet received by this connection.
+     *
+     * @param bytes the packet size
+     */
+    @ApiStatus.Internal
+    public void recordReceived(int bytes) {
+        this.receivedBytes.add(bytes);
+        this.receivedPackets.increment();
+    }
+
+    /**
+     * Gets the number of bytes written to the channel but not sent yet.
+     *
+     * @return the pending bytes
+     */
+    public long getPendingBytes() {
+        final ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+        return outboundBuffer != null ? outboundBuffer.totalPendingWriteBytes() : 0;
     }
 
     @NotNull
@@ -251,6 +620,16 @@ public class NettyPlayerConnection extends PlayerConnection {
         this.channel.close();
     }
 
+    /**
+     * Gets the pool of the packets received by this connection.
+     *
+     * @return the packet pool
+     */
+    @ApiStatus.Internal
+    public @NotNull ClientPacketPool getPacketPool() {
+        return packetPool;
+    }
+
     @NotNull
     public Channel getChannel() {
         return channel;
@@ -384,9 +763,8 @@ public class NettyPlayerConnection extends PlayerConnection {
     }
 
     public void releaseTickBuffer() {
-        synchronized (tickBufferLock) {
-            tickBuffer.release();
-        }
+        this.closed = true;
+        releaseQueue();
     }
 
     public byte[] getNonce() {
@@ -1,7 +1,5 @@
 package net.minestom.server.network.player;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.entity.Player;
 import net.minestom.server.listener.manager.PacketListenerManager;
@@ -9,6 +7,7 @@ import net.minestom.server.listener.manager.ServerPacketConsumer;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.packet.server.ServerPacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,13 +27,9 @@ public abstract class PlayerConnection {
     private volatile ConnectionState connectionState;
     private boolean online;
 
-    // Text used to kick client sending too many packets
-    private static final Component rateLimitKickMessage = Component.text("Too Many Packets", NamedTextColor.RED);
-
     //Connection Stats
     private final AtomicInteger packetCounter = new AtomicInteger(0);
-    private final AtomicInteger lastPacketCounter = new AtomicInteger(0);
-    private short tickCounter = 0;
+    private volatile int lastPacketCounter;
 
     public PlayerConnection() {
         this.online = true;
@@ -45,24 +40,14 @@ public abstract class PlayerConnection {
      * Updates values related to the network connection.
      */
     public void update() {
-        // Check rate limit
-        if (MinecraftServer.getRateLimit() > 0) {
-            tickCounter++;
-            if (tickCounter % MinecraftServer.TICK_PER_SECOND == 0 && tickCounter > 0) {
-                tickCounter = 0;
-                // Retrieve the packet count
-                final int count = packetCounter.get();
-                this.lastPacketCounter.set(count);
-                this.packetCounter.set(0);
-                if (count > MinecraftServer.getRateLimit()) {
-                    // Sent too many packets
-                    player.kick(rateLimitKickMessage);
-                    disconnect();
-                }
-            }
-        }
+        // Rate limit is checked when packets are received, see RateLimitHandler
     }
 
+    /**
+     * @deprecated packets are counted by {@link net.minestom.server.network.netty.codec.RateLimitHandler},
+     * this counter is not incremented anymore, use {@link #getLastPacketCounter()}
+     */
+    @Deprecated
     @NotNull
     public AtomicInteger getPacketCounter() {
         return packetCounter;
@@ -206,11 +191,23 @@ public abstract class PlayerConnection {
 
     /**
      * Gets the number of packet the client sent over the last second.
+     * <p>
+     * Only counted while a rate limit is enabled.
      *
      * @return the number of packet sent over the last second
      */
     public int getLastPacketCounter() {
-        return lastPacketCounter.get();
+        return lastPacketCounter;
+    }
+
+    /**
+     * Changes the number of packets sent over the last second, called once per second by the connection thread.
+     *
+     * @param lastPacketCounter the number of packets sent over the last second
+     */
+    @ApiStatus.Internal
+    public void refreshLastPacketCounter(int lastPacketCounter) {
+        this.lastPacketCounter = lastPacketCounter;
     }
 
     @Override
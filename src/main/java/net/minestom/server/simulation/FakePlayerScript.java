@@ -0,0 +1,26 @@
+package net.minestom.server.simulation;
+
+import net.minestom.server.entity.fakeplayer.FakePlayer;
+import net.minestom.server.entity.fakeplayer.FakePlayerController;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Random;
+
+/**
+ * Inputs of a {@link FakePlayer} spawned by a {@link Simulation}.
+ * <p>
+ * Executed at the start of each simulated tick, inputs should be sent using {@link FakePlayer#getController()}.
+ */
+@FunctionalInterface
+public interface FakePlayerScript {
+
+    /**
+     * Executes the inputs of a fake player for a tick.
+     *
+     * @param player the fake player
+     * @param tick   the simulated tick number, starting at 1
+     * @param random the random of the simulation, to keep runs reproducible
+     * @see FakePlayerController
+     */
+    void tick(@NotNull FakePlayer player, long tick, @NotNull Random random);
+}
@@ -0,0 +1,188 @@
+package net.minestom.server.simulation;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.UpdateManager;
+import net.minestom.server.entity.fakeplayer.FakePlayer;
+import net.minestom.server.entity.fakeplayer.FakePlayerOption;
+import net.minestom.server.monitoring.TickHistogram;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Runs server ticks as fast as possible, without network nor wall-clock scheduling.
+ * <p>
+ * Used after {@link MinecraftServer#init()} instead of {@link MinecraftServer#start(String, int)},
+ * for example to benchmark a {@link net.minestom.server.thread.ThreadProvider} in a headless environment.
+ * Ticks are given a virtual time increased by {@link MinecraftServer#TICK_MS} each tick,
+ * and the duration of each tick is recorded in {@link #getHistogram()}.
+ * <p>
+ * Fake players added using {@link #addFakePlayers(int, FakePlayerScript)} spawn like normal players
+ * (a spawning instance needs to be set in {@link net.minestom.server.event.player.PlayerLoginEvent}).
+ * Their scripts are executed in a stable order with a seeded random, making runs reproducible.
+ */
+public final class Simulation {
+
+    private final UpdateManager updateManager = MinecraftServer.getUpdateManager();
+    private final Random random;
+    private final TickHistogram histogram = new TickHistogram();
+
+    // Players in spawn order, should be synchronized
+    private final List<ScriptedPlayer> spawnedPlayers = new ArrayList<>();
+    private final List<ScriptedPlayer> players = new ArrayList<>();
+    private int playerCounter;
+    private int spawnedCount;
+
+    private long time;
+    private long tick;
+
+    /**
+     * Creates a new simulation.
+     *
+     * @param seed      the seed of the random given to the scripts
+     * @param startTime the virtual time of the first tick in milliseconds
+     * @throws IllegalStateException if the server is started
+     */
+    public Simulation(long seed, long startTime) {
+        Check.stateCondition(MinecraftServer.isStarted(), "A simulation cannot run once the server is started");
+        this.random = new Random(seed);
+        this.time = startTime;
+    }
+
+    public Simulation(long seed) {
+        this(seed, System.currentTimeMillis());
+    }
+
+    public Simulation() {
+        this(0);
+    }
+
+    /**
+     * Adds fake players controlled by a script.
+     * <p>
+     * Players are spawned asynchronously, see {@link #awaitSpawn(int)}.
+     *
+     * @param count  the number of fake players to add
+     * @param script the script of the fake players
+     */
+    public synchronized void addFakePlayers(int count, @NotNull FakePlayerScript script) {
+        Check.argCondition(count < 0, "The number of fake players cannot be negative");
+        FakePlayerOption option = new FakePlayerOption();
+        option.setRegistered(true);
+        for (int i = 0; i < count; i++) {
+            final int index = playerCounter++;
+            final String username = "Simulated" + index;
+            final UUID uuid = UUID.nameUUIDFromBytes(username.getBytes(StandardCharsets.UTF_8));
+            FakePlayer.initPlayer(uuid, username, option, fakePlayer -> {
+                synchronized (spawnedPlayers) {
+                    this.spawnedPlayers.add(new ScriptedPlayer(index, fakePlayer, script));
+                    this.spawnedCount++;
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs ticks until all the added fake players have spawned.
+     *
+     * @param maxTicks the maximum number of ticks to run
+     * @return true if all the fake players have spawned
+     */
+    public synchronized boolean awaitSpawn(int maxTicks) {
+        for (int i = 0; i < maxTicks && getSpawnedCount() < playerCounter; i++) {
+            tick();
+        }
+        return getSpawnedCount() == playerCounter;
+    }
+
+    /**
+     * Runs ticks back to back.
+     *
+     * @param ticks the number of ticks to run
+     */
+    public synchronized void run(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Runs a single tick.
+     */
+    public synchronized void tick() {
+        this.tick++;
+        this.time += MinecraftServer.TICK_MS;
+
+        // Register the players spawned during the last tick, in a stable order
+        synchronized (spawnedPlayers) {
+            if (!spawnedPlayers.isEmpty()) {
+                spawnedPlayers.sort(Comparator.comparingInt(player -> player.index));
+                this.players.addAll(spawnedPlayers);
+                this.spawnedPlayers.clear();
+            }
+        }
+        this.players.removeIf(scriptedPlayer -> scriptedPlayer.player.isRemoved());
+        for (ScriptedPlayer scriptedPlayer : players) {
+            try {
+                scriptedPlayer.script.tick(scriptedPlayer.player, tick, random);
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+
+        final long start = System.nanoTime();
+        this.updateManager.simulateTick(time);
+        this.histogram.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Gets the durations of the simulated ticks.
+     *
+     * @return the tick histogram
+     */
+    public @NotNull TickHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Gets the number of simulated ticks.
+     *
+     * @return the tick count
+     */
+    public synchronized long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the virtual time of the last tick.
+     *
+     * @return the virtual time in milliseconds
+     */
+    public synchronized long getTime() {
+        return time;
+    }
+
+    private int getSpawnedCount() {
+        synchronized (spawnedPlayers) {
+            return spawnedCount;
+        }
+    }
+
+    private static final class ScriptedPlayer {
+        private final int index;
+        private final FakePlayer player;
+        private final FakePlayerScript script;
+
+        private ScriptedPlayer(int index, @NotNull FakePlayer player, @NotNull FakePlayerScript script) {
+            this.index = index;
+            this.player = player;
+            this.script = script;
+        }
+    }
+}
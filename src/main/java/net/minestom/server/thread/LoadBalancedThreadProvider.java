@@ -0,0 +1,409 @@
+package net.minestom.server.thread;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.acquirable.Acquirable;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Groups the chunks of each {@link Instance} based on {@link #findThread(Chunk)} (by default one group per instance)
+ * and assigns each group to the least loaded thread.
+ * <p>
+ * The tick time of each group is measured, groups are then moved between threads
+ * during {@link #refreshThreads(long)} to even out the load.
+ * Threads being done with their own groups steal the remaining ones from the other threads.
+ */
+public class LoadBalancedThreadProvider extends ThreadProvider {
+
+    // Groups are keyed by the instance identity, then by findThread
+    private final Map<Instance, Long2ObjectMap<ChunkGroup>> groupMap = new IdentityHashMap<>();
+    private final List<ChunkGroup> groups = new ArrayList<>();
+    private final long[] threadLoads;
+    private final int[] threadGroupCounts;
+    private final TickBarrier barrier = new TickBarrier();
+
+    // Groups of each thread for the current tick, most expensive first, reused every tick
+    private final ChunkGroup[][] assignments;
+    private final int[] assignmentCounts;
+    private final GroupTask[] groupTasks;
+
+    private long tickCounter;
+    private long time;
+
+    public LoadBalancedThreadProvider(int threadCount) {
+        super(threadCount);
+        this.threadLoads = new long[threadCount];
+        this.threadGroupCounts = new int[threadCount];
+        this.assignments = new ChunkGroup[threadCount][8];
+        this.assignmentCounts = new int[threadCount];
+        this.groupTasks = new GroupTask[threadCount];
+        final List<TickThread> threads = getThreads();
+        for (int i = 0; i < threadCount; i++) {
+            this.groupTasks[i] = new GroupTask(i, threads.get(i));
+        }
+    }
+
+    public LoadBalancedThreadProvider() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Finds the group of a chunk in its instance, all the chunks of a group are ticked by the same thread.
+     * <p>
+     * Chunks of different instances are never in the same group.
+     *
+     * @param chunk the chunk
+     * @return the group identifier in the chunk instance
+     */
+    @Override
+    public long findThread(@NotNull Chunk chunk) {
+        return 0;
+    }
+
+    @Override
+    public @NotNull RefreshType getChunkRefreshType() {
+        return RefreshType.CONSTANT;
+    }
+
+    /**
+     * Gets the minimum load difference between two threads for a group to be moved.
+     *
+     * @return the imbalance threshold in nanoseconds
+     */
+    public long getImbalanceThreshold() {
+        return TimeUnit.MICROSECONDS.toNanos(500);
+    }
+
+    /**
+     * Gets if threads should steal the groups of the other threads once done with their own.
+     *
+     * @return true to enable work stealing
+     */
+    public boolean isWorkStealing() {
+        return true;
+    }
+
+    @Override
+    public synchronized @NotNull TickBarrier update(long time) {
+        final List<TickThread> threads = getThreads();
+        final int threadCount = threads.size();
+        this.tickCounter++;
+        this.time = time;
+
+        // Retrieve the groups of each thread, most expensive first
+        for (int i = 0; i < threadCount; i++) {
+            Arrays.fill(assignments[i], 0, assignmentCounts[i], null);
+            this.assignmentCounts[i] = 0;
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            final ChunkGroup group = groups.get(i);
+            group.prepare();
+            final int threadId = group.threadId;
+            final int count = assignmentCounts[threadId];
+            ChunkGroup[] threadGroups = assignments[threadId];
+            if (count == threadGroups.length) {
+                threadGroups = Arrays.copyOf(threadGroups, count * 2);
+                this.assignments[threadId] = threadGroups;
+            }
+            // Insertion sort, threads only have a few groups
+            int index = count;
+            while (index > 0 && threadGroups[index - 1].cost < group.cost) {
+                threadGroups[index] = threadGroups[index - 1];
+                index--;
+            }
+            threadGroups[index] = group;
+            this.assignmentCounts[threadId] = count + 1;
+        }
+
+        this.barrier.reset(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            threads.get(i).runnable.startTick(barrier, groupTasks[i]);
+        }
+        return barrier;
+    }
+
+    @Override
+    protected void refreshChunks(long endTime) {
+        final List<TickThread> threads = getThreads();
+        final int threadCount = threads.size();
+
+        // Refresh the cost of each group
+        Arrays.fill(threadLoads, 0);
+        Arrays.fill(threadGroupCounts, 0);
+        for (int i = 0; i < groups.size(); i++) {
+            final ChunkGroup group = groups.get(i);
+            group.prepare();
+            long cost = 0;
+            for (int j = 0; j < group.size; j++) {
+                cost += group.snapshot[j].getTickTime();
+            }
+            // Smooth the cost to prevent groups from moving constantly
+            group.cost = (group.cost * 3 + cost) / 4;
+            this.threadLoads[group.threadId] += group.cost;
+            this.threadGroupCounts[group.threadId]++;
+        }
+
+        // Move groups from the most loaded thread to the least loaded one
+        while (System.currentTimeMillis() < endTime) {
+            int mostLoaded = 0, leastLoaded = 0;
+            for (int i = 1; i < threadCount; i++) {
+                if (threadLoads[i] > threadLoads[mostLoaded]) mostLoaded = i;
+                if (threadLoads[i] < threadLoads[leastLoaded]) leastLoaded = i;
+            }
+            final long difference = threadLoads[mostLoaded] - threadLoads[leastLoaded];
+            if (difference <= getImbalanceThreshold())
+                break;
+
+            // Find the group reducing the difference the most
+            ChunkGroup candidate = null;
+            long bestDifference = difference;
+            for (int i = 0; i < groups.size(); i++) {
+                final ChunkGroup group = groups.get(i);
+                if (group.threadId != mostLoaded || group.cost == 0)
+                    continue;
+                final long newDifference = Math.abs(difference - group.cost * 2);
+                if (newDifference < bestDifference) {
+                    bestDifference = newDifference;
+                    candidate = group;
+                }
+            }
+            if (candidate == null)
+                break;
+
+            this.threadLoads[mostLoaded] -= candidate.cost;
+            this.threadLoads[leastLoaded] += candidate.cost;
+            this.threadGroupCounts[mostLoaded]--;
+            this.threadGroupCounts[leastLoaded]++;
+            moveGroup(candidate, leastLoaded, threads.get(leastLoaded));
+            // Wait for the acquisitions started before the move
+            final ReentrantLock previousLock = threads.get(mostLoaded).getLock();
+            previousLock.lock();
+            previousLock.unlock();
+        }
+    }
+
+    @Override
+    protected int getThreadId(@NotNull Chunk chunk) {
+        final Long2ObjectMap<ChunkGroup> instanceGroups =
+                groupMap.computeIfAbsent(chunk.getInstance(), instance -> new Long2ObjectOpenHashMap<>());
+        final long key = findThread(chunk);
+        ChunkGroup group = instanceGroups.get(key);
+        if (group == null) {
+            final int threadId = findLeastLoadedThread();
+            group = new ChunkGroup(threadId);
+            instanceGroups.put(key, group);
+            this.groups.add(group);
+            this.threadGroupCounts[threadId]++;
+        }
+        return group.threadId;
+    }
+
+    @Override
+    protected void addChunk(@NotNull Chunk chunk) {
+        super.addChunk(chunk);
+        final ChunkEntry chunkEntry = getChunkEntry(chunk);
+        final ChunkGroup group = getGroup(chunk);
+        if (chunkEntry != null && group != null) {
+            group.add(chunkEntry);
+        }
+    }
+
+    @Override
+    protected void removeChunk(Chunk chunk) {
+        final ChunkEntry chunkEntry = getChunkEntry(chunk);
+        super.removeChunk(chunk);
+        if (chunkEntry == null)
+            return;
+        final Instance instance = chunk.getInstance();
+        final Long2ObjectMap<ChunkGroup> instanceGroups = groupMap.get(instance);
+        if (instanceGroups == null)
+            return;
+        final long key = findThread(chunk);
+        final ChunkGroup group = instanceGroups.get(key);
+        if (group != null) {
+            group.remove(chunkEntry);
+            if (group.entries.isEmpty()) {
+                instanceGroups.remove(key);
+                if (instanceGroups.isEmpty()) {
+                    this.groupMap.remove(instance);
+                }
+                this.groups.remove(group);
+                this.threadLoads[group.threadId] -= group.cost;
+                this.threadGroupCounts[group.threadId]--;
+            }
+        }
+    }
+
+    private @Nullable ChunkGroup getGroup(@NotNull Chunk chunk) {
+        final Long2ObjectMap<ChunkGroup> instanceGroups = groupMap.get(chunk.getInstance());
+        return instanceGroups != null ? instanceGroups.get(findThread(chunk)) : null;
+    }
+
+    private int findLeastLoadedThread() {
+        int result = 0;
+        for (int i = 1; i < threadLoads.length; i++) {
+            if (threadLoads[i] < threadLoads[result] ||
+                    (threadLoads[i] == threadLoads[result] && threadGroupCounts[i] < threadGroupCounts[result])) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private void moveGroup(@NotNull ChunkGroup group, int threadId, @NotNull TickThread thread) {
+        group.threadId = threadId;
+        for (ChunkEntry chunkEntry : group.entries) {
+            moveChunkEntry(chunkEntry, thread);
+        }
+    }
+
+    private void tickGroup(@NotNull ChunkGroup group, @NotNull ReentrantLock lock, long time) {
+        final ChunkEntry[] snapshot = group.snapshot;
+        for (int i = 0; i < group.size; i++) {
+            tickChunkEntry(snapshot[i], lock, time);
+        }
+    }
+
+    /**
+     * Waits for the acquisitions done on {@code previousLock} before a group has been stolen.
+     * <p>
+     * {@code lock} is released if requested by another thread to prevent deadlocks.
+     *
+     * @param previousLock the lock of the thread previously owning the group
+     * @param lock         the lock of the current thread
+     */
+    private static void awaitAcquisitions(@NotNull ReentrantLock previousLock, @NotNull ReentrantLock lock) {
+        try {
+            while (!previousLock.tryLock(50, TimeUnit.MICROSECONDS)) {
+                if (lock.hasQueuedThreads()) {
+                    lock.unlock();
+                    lock.lock();
+                }
+            }
+            previousLock.unlock();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Task ticking the groups of a thread then stealing the ones of the other threads, reused every tick.
+     */
+    private final class GroupTask implements Runnable {
+        private final int index;
+        private final TickThread thread;
+
+        private GroupTask(int index, @NotNull TickThread thread) {
+            this.index = index;
+            this.thread = thread;
+        }
+
+        @Override
+        public void run() {
+            final List<TickThread> threads = getThreads();
+            final int threadCount = threads.size();
+            final long tick = tickCounter;
+            final long time = LoadBalancedThreadProvider.this.time;
+
+            Acquirable.refreshEntries(getChunkEntries(thread));
+
+            final ReentrantLock lock = thread.getLock();
+            lock.lock();
+            startEntityBudget(thread);
+            // Tick own groups
+            final ChunkGroup[] ownGroups = assignments[index];
+            final int ownCount = assignmentCounts[index];
+            for (int i = 0; i < ownCount; i++) {
+                final ChunkGroup group = ownGroups[i];
+                if (group.claim(tick)) {
+                    tickGroup(group, lock, time);
+                }
+            }
+            // Steal the groups not yet ticked by the other threads, cheapest first
+            if (isWorkStealing()) {
+                for (int offset = 1; offset < threadCount; offset++) {
+                    final int victimIndex = (index + offset) % threadCount;
+                    final ChunkGroup[] victimGroups = assignments[victimIndex];
+                    for (int j = assignmentCounts[victimIndex] - 1; j >= 0; j--) {
+                        final ChunkGroup group = victimGroups[j];
+                        if (!group.claim(tick))
+                            continue;
+                        final TickThread victim = threads.get(victimIndex);
+                        moveGroup(group, index, thread);
+                        awaitAcquisitions(victim.getLock(), lock);
+                        tickGroup(group, lock, time);
+                    }
+                }
+            }
+            Acquirable.refreshEntries(Collections.emptySet());
+            lock.unlock();
+        }
+    }
+
+    private static final class ChunkGroup {
+        private static final AtomicLongFieldUpdater<ChunkGroup> CLAIM_UPDATER =
+                AtomicLongFieldUpdater.newUpdater(ChunkGroup.class, "claimedTick");
+
+        private final Set<ChunkEntry> entries = ConcurrentHashMap.newKeySet();
+        // Snapshot of entries, rebuilt when modified
+        private ChunkEntry[] snapshot = new ChunkEntry[16];
+        private int size;
+        private volatile boolean dirty;
+        private volatile int threadId;
+        private long cost;
+
+        private volatile long claimedTick;
+
+        private ChunkGroup(int threadId) {
+            this.threadId = threadId;
+        }
+
+        private void add(@NotNull ChunkEntry chunkEntry) {
+            this.entries.add(chunkEntry);
+            this.dirty = true;
+        }
+
+        private void remove(@NotNull ChunkEntry chunkEntry) {
+            this.entries.remove(chunkEntry);
+            this.dirty = true;
+        }
+
+        /**
+         * Rebuilds the snapshot of the entries if modified, must not be called during the tick.
+         */
+        private void prepare() {
+            if (!dirty)
+                return;
+            this.dirty = false;
+            int index = 0;
+            for (ChunkEntry chunkEntry : entries) {
+                if (index == snapshot.length) {
+                    this.snapshot = Arrays.copyOf(snapshot, index * 2);
+                }
+                this.snapshot[index++] = chunkEntry;
+            }
+            Arrays.fill(snapshot, index, size, null);
+            this.size = index;
+        }
+
+        /**
+         * Claims the group for the current tick, ensuring that it is ticked only once.
+         *
+         * @param tick the tick counter
+         * @return true if the group has been claimed
+         */
+        private boolean claim(long tick) {
+            final long claimed = claimedTick;
+            return claimed != tick && CLAIM_UPDATER.compareAndSet(this, claimed, tick);
+        }
+    }
+}
@@ -9,12 +9,26 @@ import org.jetbrains.annotations.NotNull;
  */
 public class PerInstanceThreadProvider extends ThreadProvider {
 
-    public PerInstanceThreadProvider(int threadCount) {
+    private final boolean foldInstanceTick;
+
+    /**
+     * Creates a new per instance thread provider.
+     *
+     * @param threadCount      the number of tick threads
+     * @param foldInstanceTick true to tick instances in the same task as their chunks,
+     *                         see {@link #isInstanceTickFolded()}
+     */
+    public PerInstanceThreadProvider(int threadCount, boolean foldInstanceTick) {
         super(threadCount);
+        this.foldInstanceTick = foldInstanceTick;
+    }
+
+    public PerInstanceThreadProvider(int threadCount) {
+        this(threadCount, false);
     }
 
     public PerInstanceThreadProvider() {
-        super();
+        this(Runtime.getRuntime().availableProcessors());
     }
 
     @Override
@@ -22,6 +36,16 @@ public class PerInstanceThreadProvider extends ThreadProvider {
         return chunk.getInstance().hashCode();
     }
 
+    @Override
+    public int findInstanceThread(@NotNull Instance instance) {
+        return (int) (Math.abs((long) instance.hashCode()) % getThreads().size());
+    }
+
+    @Override
+    public boolean isInstanceTickFolded() {
+        return foldInstanceTick;
+    }
+
     @Override
     public @NotNull RefreshType getChunkRefreshType() {
         return RefreshType.NEVER;
@@ -0,0 +1,269 @@
+package net.minestom.server.thread;
+
+import it.unimi.dsi.fastutil.longs.*;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Groups loaded chunks into connected regions, each region being ticked by a single thread.
+ * <p>
+ * Two chunks are part of the same region if they are close enough for their entities to interact
+ * (see {@link #RegionThreadProvider(int, int)}), meaning that entities rarely need to be acquired from another thread.
+ * Regions are merged and split as chunks get loaded and unloaded,
+ * the new regions being assigned to the thread with the fewest chunks.
+ */
+public class RegionThreadProvider extends ThreadProvider {
+
+    /**
+     * Default distance (in blocks) at which entities are considered able to interact.
+     */
+    public static final int DEFAULT_INTERACTION_RADIUS = 16;
+
+    private final int mergeDistance;
+
+    private final Map<Instance, Long2ObjectMap<Region>> instanceRegionMap = new HashMap<>();
+    // Regions containing chunks that need to be moved to the region thread
+    private final Set<Region> movedRegions = new HashSet<>();
+    private final int[] threadChunkCounts;
+
+    /**
+     * Creates a new region thread provider.
+     *
+     * @param threadCount       the number of tick threads
+     * @param interactionRadius the distance (in blocks) at which entities can interact,
+     *                          chunks within that distance are part of the same region
+     */
+    public RegionThreadProvider(int threadCount, int interactionRadius) {
+        super(threadCount);
+        Check.argCondition(interactionRadius < 0, "The interaction radius cannot be negative");
+        this.mergeDistance = Math.max(1, (interactionRadius + Chunk.CHUNK_SIZE_X - 1) / Chunk.CHUNK_SIZE_X);
+        this.threadChunkCounts = new int[threadCount];
+    }
+
+    public RegionThreadProvider(int threadCount) {
+        this(threadCount, DEFAULT_INTERACTION_RADIUS);
+    }
+
+    public RegionThreadProvider() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public long findThread(@NotNull Chunk chunk) {
+        final var regions = instanceRegionMap.get(chunk.getInstance());
+        final Region region = regions != null ? regions.get(getChunkIndex(chunk)) : null;
+        return region != null ? region.threadId : 0;
+    }
+
+    @Override
+    public @NotNull RefreshType getChunkRefreshType() {
+        return RefreshType.CONSTANT;
+    }
+
+    @Override
+    protected void refreshChunks(long endTime) {
+        if (movedRegions.isEmpty())
+            return;
+        final List<TickThread> threads = getThreads();
+        Set<TickThread> previousThreads = new HashSet<>();
+        Iterator<Region> iterator = movedRegions.iterator();
+        while (iterator.hasNext() && System.currentTimeMillis() < endTime) {
+            final Region region = iterator.next();
+            final TickThread thread = threads.get(region.threadId);
+            for (Chunk chunk : region.chunks.values()) {
+                final ChunkEntry chunkEntry = getChunkEntry(chunk);
+                if (chunkEntry == null || chunkEntry.getThread() == thread)
+                    continue;
+                previousThreads.add(chunkEntry.getThread());
+                moveChunkEntry(chunkEntry, thread);
+            }
+            iterator.remove();
+        }
+        // Wait for the acquisitions started before the moves
+        for (TickThread thread : previousThreads) {
+            final ReentrantLock lock = thread.getLock();
+            lock.lock();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void addChunk(@NotNull Chunk chunk) {
+        final var regions = instanceRegionMap.computeIfAbsent(chunk.getInstance(), instance -> new Long2ObjectOpenHashMap<>());
+        final long index = getChunkIndex(chunk);
+
+        // Retrieve the regions of the loaded neighbours
+        List<Region> neighbourRegions = new ArrayList<>();
+        forEachNeighbour(chunk.getChunkX(), chunk.getChunkZ(), neighbourIndex -> {
+            final Region neighbourRegion = regions.get(neighbourIndex);
+            if (neighbourRegion != null && !neighbourRegions.contains(neighbourRegion)) {
+                neighbourRegions.add(neighbourRegion);
+            }
+        });
+
+        Region region;
+        if (neighbourRegions.isEmpty()) {
+            region = new Region(findLeastLoadedThread());
+        } else {
+            // Merge all the neighbour regions into the largest one
+            region = Collections.max(neighbourRegions, Comparator.comparingInt(r -> r.chunks.size()));
+            for (Region neighbourRegion : neighbourRegions) {
+                if (neighbourRegion != region) {
+                    mergeRegion(neighbourRegion, region, regions);
+                }
+            }
+        }
+        region.chunks.put(index, chunk);
+        regions.put(index, region);
+        this.threadChunkCounts[region.threadId]++;
+
+        super.addChunk(chunk);
+    }
+
+    @Override
+    protected void removeChunk(Chunk chunk) {
+        super.removeChunk(chunk);
+
+        final Instance instance = chunk.getInstance();
+        final var regions = instanceRegionMap.get(instance);
+        if (regions == null)
+            return;
+        final long index = getChunkIndex(chunk);
+        final Region region = regions.get(index);
+        if (region == null || region.chunks.get(index) != chunk)
+            return;
+        regions.remove(index);
+        region.chunks.remove(index);
+        this.threadChunkCounts[region.threadId]--;
+
+        if (region.chunks.isEmpty()) {
+            this.movedRegions.remove(region);
+            if (regions.isEmpty()) {
+                this.instanceRegionMap.remove(instance);
+            }
+            return;
+        }
+        splitRegion(region, regions, chunk.getChunkX(), chunk.getChunkZ());
+    }
+
+    private void mergeRegion(@NotNull Region source, @NotNull Region target, @NotNull Long2ObjectMap<Region> regions) {
+        for (var entry : source.chunks.long2ObjectEntrySet()) {
+            final long index = entry.getLongKey();
+            target.chunks.put(index, entry.getValue());
+            regions.put(index, target);
+        }
+        final int size = source.chunks.size();
+        this.threadChunkCounts[source.threadId] -= size;
+        this.threadChunkCounts[target.threadId] += size;
+        // The pending moves of the source are now the ones of the target
+        final boolean sourceMoved = movedRegions.remove(source);
+        if (sourceMoved || source.threadId != target.threadId) {
+            this.movedRegions.add(target);
+        }
+    }
+
+    /**
+     * Splits a region after the removal of one of its chunks, if it is not connected anymore.
+     */
+    private void splitRegion(@NotNull Region region, @NotNull Long2ObjectMap<Region> regions, int chunkX, int chunkZ) {
+        LongList neighbours = new LongArrayList();
+        forEachNeighbour(chunkX, chunkZ, neighbourIndex -> {
+            if (regions.get(neighbourIndex) == region) {
+                neighbours.add(neighbourIndex);
+            }
+        });
+        // The region is still connected if the neighbours of the removed chunk are connected between themselves
+        if (neighbours.size() <= 1 || findComponents(neighbours).size() == 1)
+            return;
+
+        List<LongSet> components = findComponents(region.chunks.keySet());
+        if (components.size() == 1)
+            return;
+
+        // The largest component stays in the current region
+        components.sort(Comparator.comparingInt(LongSet::size).reversed());
+        final boolean regionMoved = movedRegions.contains(region);
+        for (int i = 1; i < components.size(); i++) {
+            final LongSet component = components.get(i);
+            this.threadChunkCounts[region.threadId] -= component.size();
+            Region newRegion = new Region(findLeastLoadedThread());
+            for (long index : component) {
+                newRegion.chunks.put(index, region.chunks.remove(index));
+                regions.put(index, newRegion);
+            }
+            this.threadChunkCounts[newRegion.threadId] += component.size();
+            if (regionMoved || newRegion.threadId != region.threadId) {
+                this.movedRegions.add(newRegion);
+            }
+        }
+    }
+
+    /**
+     * Separates chunk indexes into connected components.
+     *
+     * @param indexes the chunk indexes
+     * @return the connected components
+     */
+    private @NotNull List<LongSet> findComponents(@NotNull LongCollection indexes) {
+        List<LongSet> components = new ArrayList<>();
+        LongSet remaining = new LongOpenHashSet(indexes);
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        while (!remaining.isEmpty()) {
+            LongSet component = new LongOpenHashSet();
+            final long start = remaining.iterator().nextLong();
+            remaining.remove(start);
+            queue.enqueue(start);
+            while (!queue.isEmpty()) {
+                final long index = queue.dequeueLong();
+                component.add(index);
+                forEachNeighbour(ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index), neighbourIndex -> {
+                    if (remaining.remove(neighbourIndex)) {
+                        queue.enqueue(neighbourIndex);
+                    }
+                });
+            }
+            components.add(component);
+        }
+        return components;
+    }
+
+    private void forEachNeighbour(int chunkX, int chunkZ, @NotNull LongConsumer consumer) {
+        for (int x = -mergeDistance; x <= mergeDistance; x++) {
+            for (int z = -mergeDistance; z <= mergeDistance; z++) {
+                if (x == 0 && z == 0)
+                    continue;
+                consumer.accept(ChunkUtils.getChunkIndex(chunkX + x, chunkZ + z));
+            }
+        }
+    }
+
+    private int findLeastLoadedThread() {
+        int result = 0;
+        for (int i = 1; i < threadChunkCounts.length; i++) {
+            if (threadChunkCounts[i] < threadChunkCounts[result]) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private static long getChunkIndex(@NotNull Chunk chunk) {
+        return ChunkUtils.getChunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+    }
+
+    private static final class Region {
+        private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+        private final int threadId;
+
+        private Region(int threadId) {
+            this.threadId = threadId;
+        }
+    }
+}
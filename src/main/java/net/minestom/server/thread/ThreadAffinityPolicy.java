@@ -0,0 +1,90 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.thread.ThreadAffinity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Decides on which CPUs the {@link TickThread tick threads} and the Netty worker threads are allowed to run.
+ * <p>
+ * Requires the native library of {@link ThreadAffinity}, threads are left unpinned otherwise.
+ *
+ * @see net.minestom.server.MinecraftServer#setThreadAffinityPolicy(ThreadAffinityPolicy)
+ */
+public interface ThreadAffinityPolicy {
+
+    /**
+     * Gets the CPUs of a tick thread.
+     *
+     * @param index the index of the thread in {@link ThreadProvider#getThreads()}
+     * @param count the number of tick threads
+     * @return the CPUs of the thread, null to leave it unpinned
+     */
+    @Nullable BitSet getTickThreadCpus(int index, int count);
+
+    /**
+     * Gets the CPUs of a Netty worker thread.
+     *
+     * @param index the index of the worker thread
+     * @param count the number of worker threads, see {@link net.minestom.server.MinecraftServer#getNettyThreadCount()}
+     * @return the CPUs of the thread, null to leave it unpinned
+     */
+    @Nullable BitSet getNettyThreadCpus(int index, int count);
+
+    /**
+     * Spreads the threads over the NUMA nodes of the machine, the tick thread and the Netty worker
+     * with the same index being placed in the same node so they share its memory and cache.
+     * <p>
+     * Threads are pinned to a node, not to a single CPU, leaving the scheduler free to balance them inside the node.
+     *
+     * @return a NUMA aware policy
+     */
+    static @NotNull ThreadAffinityPolicy numaAware() {
+        final List<BitSet> nodes = ThreadAffinity.getNumaNodes();
+        return new ThreadAffinityPolicy() {
+            @Override
+            public @NotNull BitSet getTickThreadCpus(int index, int count) {
+                return (BitSet) nodes.get(index % nodes.size()).clone();
+            }
+
+            @Override
+            public @NotNull BitSet getNettyThreadCpus(int index, int count) {
+                return (BitSet) nodes.get(index % nodes.size()).clone();
+            }
+        };
+    }
+
+    /**
+     * Pins each tick thread to its own CPU, starting from the first one,
+     * and lets the Netty workers run on the remaining CPUs.
+     * <p>
+     * Tick threads share CPUs if there are more threads than CPUs.
+     *
+     * @return a policy dedicating CPUs to the tick threads
+     */
+    static @NotNull ThreadAffinityPolicy dedicatedTickThreads() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        return new ThreadAffinityPolicy() {
+            @Override
+            public @NotNull BitSet getTickThreadCpus(int index, int count) {
+                BitSet cpus = new BitSet();
+                cpus.set(index % processors);
+                return cpus;
+            }
+
+            @Override
+            public @Nullable BitSet getNettyThreadCpus(int index, int count) {
+                final int tickThreads = MinecraftServer.getUpdateManager().getThreadProvider().getThreads().size();
+                if (tickThreads >= processors)
+                    return null;
+                BitSet cpus = new BitSet();
+                cpus.set(tickThreads, processors);
+                return cpus;
+            }
+        };
+    }
+}
@@ -3,15 +3,17 @@ package net.minestom.server.thread;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.acquirable.Acquirable;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityTickTier;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
@@ -21,9 +23,17 @@ import java.util.function.Function;
  */
 public abstract class ThreadProvider {
 
+    /**
+     * Number of entities ticked between two checks for pending acquisitions.
+     */
+    private static final int ACQUISITION_CHECK_INTERVAL = 16;
+
     private final List<TickThread> threads;
 
-    private final Map<TickThread, Set<ChunkEntry>> threadChunkMap = new HashMap<>();
+    private final Map<TickThread, ThreadTask> threadTaskMap = new HashMap<>();
+    private final ThreadTask[] threadTasks;
+    private final TickBarrier updateBarrier = new TickBarrier();
+    private final TickBarrier instanceBarrier = new TickBarrier();
     private final Map<Chunk, ChunkEntry> chunkEntryMap = new HashMap<>();
     // Iterated over to refresh the thread used to update entities & chunks
     private final ArrayDeque<Chunk> chunks = new ArrayDeque<>();
@@ -32,11 +42,15 @@ public abstract class ThreadProvider {
 
     public ThreadProvider(int threadCount) {
         this.threads = new ArrayList<>(threadCount);
+        this.threadTasks = new ThreadTask[threadCount];
 
         for (int i = 0; i < threadCount; i++) {
             final TickThread.BatchRunnable batchRunnable = new TickThread.BatchRunnable();
             final TickThread tickThread = new TickThread(batchRunnable, i);
+            final ThreadTask threadTask = new ThreadTask(tickThread);
             this.threads.add(tickThread);
+            this.threadTasks[i] = threadTask;
+            this.threadTaskMap.put(tickThread, threadTask);
 
             tickThread.start();
         }
@@ -108,48 +122,119 @@ public abstract class ThreadProvider {
     }
 
     /**
-     * Prepares the update by creating the {@link TickThread} tasks.
+     * Gets if entities are ticked based on their {@link EntityTickTier}, see {@link Entity#getTickTier()}.
+     * <p>
+     * Disabled by default as entities not in the full tier are not updated every tick.
      *
-     * @param time the tick time in milliseconds
+     * @return true to enable entity tick tiers
      */
-    public synchronized @NotNull CountDownLatch update(long time) {
-        CountDownLatch countDownLatch = new CountDownLatch(threads.size());
-        for (TickThread thread : threads) {
-            // Execute tick
-            thread.runnable.startTick(countDownLatch, () -> {
-                final var chunkEntries = threadChunkMap.get(thread);
-                if (chunkEntries == null || chunkEntries.isEmpty()) {
-                    // Nothing to tick
-                    Acquirable.refreshEntries(Collections.emptySet());
-                    return;
-                }
+    public boolean isEntityTickTiering() {
+        return false;
+    }
 
-                Acquirable.refreshEntries(chunkEntries);
-
-                final ReentrantLock lock = thread.getLock();
-                lock.lock();
-                chunkEntries.forEach(chunkEntry -> {
-                    Chunk chunk = chunkEntry.chunk;
-                    if (!ChunkUtils.isLoaded(chunk))
-                        return;
-                    chunk.tick(time);
-                    final var entities = chunkEntry.entities;
-                    if (!entities.isEmpty()) {
-                        for (Entity entity : entities) {
-                            if (lock.hasQueuedThreads()) {
-                                lock.unlock();
-                                // #acquire callbacks should be called here
-                                lock.lock();
-                            }
-                            entity.tick(time);
-                        }
-                    }
-                });
-                Acquirable.refreshEntries(Collections.emptySet());
-                lock.unlock();
-            });
+    /**
+     * Gets the number of ticks between two updates of an entity.
+     *
+     * @param tier the entity tick tier
+     * @return the tick interval of {@code tier}
+     */
+    public int getTickInterval(@NotNull EntityTickTier tier) {
+        switch (tier) {
+            case REDUCED:
+                return 4;
+            case DORMANT:
+                return MinecraftServer.TICK_PER_SECOND;
+            default:
+                return 1;
         }
-        return countDownLatch;
+    }
+
+    /**
+     * Gets the distance to the nearest viewer under which entities with an AI are ticked every tick.
+     *
+     * @return the full tick distance in blocks
+     */
+    public double getFullTickDistance() {
+        return 32;
+    }
+
+    /**
+     * Gets the time each thread can spend ticking entities before delaying
+     * the ones not in the {@link EntityTickTier#FULL full tier} to the next tick.
+     * <p>
+     * Only used if {@link #isEntityTickTiering()} is enabled.
+     *
+     * @return the entity tick budget in milliseconds
+     */
+    public int getEntityTickBudget() {
+        return (int) (MinecraftServer.TICK_MS * 0.6);
+    }
+
+    /**
+     * Finds the thread responsible for ticking an {@link Instance}, see {@link #updateInstances(Collection, long)}.
+     *
+     * @param instance the instance
+     * @return the thread id, -1 to tick the instance in the least used thread
+     */
+    public int findInstanceThread(@NotNull Instance instance) {
+        return -1;
+    }
+
+    /**
+     * Gets if instances are ticked in {@link #update(long)} by their thread (see {@link #findInstanceThread(Instance)})
+     * just before their chunks, instead of during {@link #updateInstances(Collection, long)}.
+     *
+     * @return true if instance ticks are part of the chunks update
+     */
+    public boolean isInstanceTickFolded() {
+        return false;
+    }
+
+    /**
+     * Ticks instances in parallel over the {@link TickThread tick threads}.
+     * <p>
+     * Unused if {@link #isInstanceTickFolded()} returns true.
+     *
+     * @param instances the instances to tick
+     * @param time      the tick time in milliseconds
+     * @return the barrier to wait on for the instances to be ticked
+     */
+    public synchronized @NotNull TickBarrier updateInstances(@NotNull Collection<@NotNull Instance> instances, long time) {
+        assignInstances(instances);
+        int count = 0;
+        for (ThreadTask threadTask : threadTasks) {
+            if (!threadTask.instances.isEmpty()) count++;
+        }
+        this.instanceBarrier.reset(count);
+        for (ThreadTask threadTask : threadTasks) {
+            if (threadTask.instances.isEmpty())
+                continue;
+            threadTask.time = time;
+            threadTask.thread.runnable.startTick(instanceBarrier, threadTask.instanceRunnable);
+        }
+        return instanceBarrier;
+    }
+
+    /**
+     * Prepares the update by starting the {@link TickThread} tasks.
+     * <p>
+     * The chunk entries of each thread are kept in an array only rebuilt when modified,
+     * the tasks and the returned barrier being reused every tick.
+     *
+     * @param time the tick time in milliseconds
+     * @return the barrier to wait on for the chunks to be ticked
+     */
+    public synchronized @NotNull TickBarrier update(long time) {
+        final boolean folded = isInstanceTickFolded();
+        if (folded) {
+            assignInstances(MinecraftServer.getInstanceManager().getInstances());
+        }
+        this.updateBarrier.reset(threadTasks.length);
+        for (ThreadTask threadTask : threadTasks) {
+            threadTask.prepare(time, folded);
+            threadTask.thread.runnable.startTick(updateBarrier, threadTask);
+        }
+        return updateBarrier;
     }
 
     /**
@@ -171,6 +256,18 @@ public abstract class ThreadProvider {
         final int timeOffset = MathUtils.clamp((int) ((double) tickTime * getRefreshPercentage()),
                 getMinimumRefreshTime(), getMaximumRefreshTime());
         final long endTime = System.currentTimeMillis() + timeOffset;
+        refreshChunks(endTime);
+    }
+
+    /**
+     * Refreshes the thread of the loaded chunks based on {@link #findThread(Chunk)},
+     * until all chunks have been processed or {@code endTime} is reached.
+     * <p>
+     * Called in {@link #refreshThreads(long)} if {@link #getChunkRefreshType()} is not {@link RefreshType#NEVER}.
+     *
+     * @param endTime the time (in ms) at which the refresh should stop
+     */
+    protected void refreshChunks(long endTime) {
         final int size = chunks.size();
         int counter = 0;
         while (true) {
@@ -234,6 +331,144 @@ public abstract class ThreadProvider {
         return threads;
     }
 
+    /**
+     * Starts the entity tick budget of the current thread, see {@link #getEntityTickBudget()}.
+     * <p>
+     * Must be called by each {@link TickThread} before ticking its chunks.
+     *
+     * @param thread the current tick thread
+     */
+    protected void startEntityBudget(@NotNull TickThread thread) {
+        thread.entityBudgetEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getEntityTickBudget());
+    }
+
+    /**
+     * Ticks a chunk and all the entities inside it.
+     * <p>
+     * The time spent is stored in the entry, see {@link ChunkEntry#getTickTime()}.
+     * If {@link #isEntityTickTiering()} is enabled, entities are ticked based on their tier.
+     *
+     * @param chunkEntry the chunk entry to tick
+     * @param lock       the lock of the current {@link TickThread}, already held
+     * @param time       the tick time in milliseconds
+     */
+    protected void tickChunkEntry(@NotNull ChunkEntry chunkEntry, @NotNull ReentrantLock lock, long time) {
+        final Chunk chunk = chunkEntry.chunk;
+        if (!ChunkUtils.isLoaded(chunk))
+            return;
+        final long start = System.nanoTime();
+        chunk.tick(time);
+        final List<Entity> entities = chunkEntry.entities;
+        final int size = entities.size();
+        final boolean tiering = isEntityTickTiering();
+        final Thread currentThread = Thread.currentThread();
+        final long budgetEnd = tiering && currentThread instanceof TickThread ?
+                ((TickThread) currentThread).entityBudgetEnd : Long.MAX_VALUE;
+        boolean overBudget = false;
+        for (int i = 0; i < size; i++) {
+            if (i % ACQUISITION_CHECK_INTERVAL == 0) {
+                if (lock.hasQueuedThreads()) {
+                    lock.unlock();
+                    // #acquire callbacks should be called here
+                    lock.lock();
+                }
+                overBudget = tiering && System.nanoTime() - budgetEnd > 0;
+            }
+            final Entity entity = entities.get(i);
+            if (tiering) {
+                entity.tickTiered(time, getTickInterval(entity.getTickTier()), overBudget);
+            } else {
+                entity.tick(time);
+            }
+        }
+        chunkEntry.tickTime = System.nanoTime() - start;
+    }
+
+    /**
+     * Assigns instances to the threads based on {@link #findInstanceThread(Instance)}.
+     *
+     * @param instances the instances to assign
+     */
+    private void assignInstances(@NotNull Collection<@NotNull Instance> instances) {
+        for (ThreadTask threadTask : threadTasks) {
+            threadTask.instances.clear();
+        }
+        boolean unassigned = false;
+        for (Instance instance : instances) {
+            final int threadId = findInstanceThread(instance);
+            if (threadId >= 0) {
+                this.threadTasks[threadId % threadTasks.length].instances.add(instance);
+            } else {
+                unassigned = true;
+            }
+        }
+        if (!unassigned)
+            return;
+        for (Instance instance : instances) {
+            if (findInstanceThread(instance) >= 0)
+                continue;
+            // Least used thread
+            ThreadTask result = threadTasks[0];
+            for (ThreadTask threadTask : threadTasks) {
+                if (threadTask.instances.size() < result.instances.size()) result = threadTask;
+            }
+            result.instances.add(instance);
+        }
+    }
+
+    /**
+     * Ticks instances, exceptions are given to the {@link net.minestom.server.exception.ExceptionManager}.
+     *
+     * @param instances the instances to tick
+     * @param time      the tick time in milliseconds
+     */
+    protected void tickInstances(@NotNull List<@NotNull Instance> instances, long time) {
+        for (Instance instance : instances) {
+            try {
+                instance.tick(time);
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
+    /**
+     * Gets the chunk entries currently assigned to a thread.
+     *
+     * @param thread the tick thread
+     * @return the live set of chunk entries ticked by {@code thread}
+     */
+    protected @NotNull Set<ChunkEntry> getChunkEntries(@NotNull TickThread thread) {
+        return threadTaskMap.get(thread).chunkEntries;
+    }
+
+    /**
+     * Gets the entry of a chunk.
+     *
+     * @param chunk the chunk
+     * @return the chunk entry, null if the chunk is not registered
+     */
+    protected @Nullable ChunkEntry getChunkEntry(@NotNull Chunk chunk) {
+        return chunkEntryMap.get(chunk);
+    }
+
+    /**
+     * Moves a chunk entry (and its entities) to another thread.
+     * <p>
+     * Can be called during the tick, the thread sets being concurrent.
+     *
+     * @param chunkEntry the chunk entry to move
+     * @param thread     the new thread of the entry
+     */
+    protected void moveChunkEntry(@NotNull ChunkEntry chunkEntry, @NotNull TickThread thread) {
+        final TickThread previous = chunkEntry.thread;
+        if (previous == thread)
+            return;
+        this.threadTaskMap.get(previous).remove(chunkEntry);
+        chunkEntry.thread = thread;
+        this.threadTaskMap.get(thread).add(chunkEntry);
+    }
+
     protected void addChunk(@NotNull Chunk chunk) {
         ChunkEntry chunkEntry = setChunkThread(chunk, (thread) -> new ChunkEntry(thread, chunk));
         this.chunkEntryMap.put(chunk, chunkEntry);
@@ -244,10 +479,10 @@ public abstract class ThreadProvider {
         ChunkEntry chunkEntry = chunkEntryMap.get(chunk);
         if (chunkEntry == null)
             return;
-        var chunks = threadChunkMap.get(chunkEntry.thread);
-        if (chunks == null || chunks.isEmpty())
+        final ThreadTask threadTask = threadTaskMap.get(chunkEntry.thread);
+        if (threadTask == null || threadTask.chunkEntries.isEmpty())
             return;
-        chunks.remove(chunkEntry);
+        threadTask.remove(chunkEntry);
 
         setChunkThread(chunk, tickThread -> {
             chunkEntry.thread = tickThread;
@@ -259,10 +494,9 @@ public abstract class ThreadProvider {
                                                  @NotNull Function<TickThread, ChunkEntry> chunkEntrySupplier) {
         final int threadId = getThreadId(chunk);
         TickThread thread = threads.get(threadId);
-        var chunks = threadChunkMap.computeIfAbsent(thread, tickThread -> ConcurrentHashMap.newKeySet());
 
         ChunkEntry chunkEntry = chunkEntrySupplier.apply(thread);
-        chunks.add(chunkEntry);
+        this.threadTaskMap.get(thread).add(chunkEntry);
         return chunkEntry;
     }
 
@@ -270,9 +504,9 @@ public abstract class ThreadProvider {
         ChunkEntry chunkEntry = chunkEntryMap.get(chunk);
         if (chunkEntry != null) {
             TickThread thread = chunkEntry.thread;
-            var chunks = threadChunkMap.get(thread);
-            if (chunks != null) {
-                chunks.remove(chunkEntry);
+            final ThreadTask threadTask = threadTaskMap.get(thread);
+            if (threadTask != null) {
+                threadTask.remove(chunkEntry);
             }
             chunkEntryMap.remove(chunk);
         }
@@ -293,11 +527,11 @@ public abstract class ThreadProvider {
         if (removedEntities.isEmpty())
             return;
         for (Entity entity : removedEntities) {
-            var acquirableEntity = entity.getAcquirable();
-            ChunkEntry chunkEntry = acquirableEntity.getHandler().getChunkEntry();
+            var handler = entity.getAcquirable().getHandler();
+            ChunkEntry chunkEntry = handler.getChunkEntry();
             // Remove from list
             if (chunkEntry != null) {
-                chunkEntry.entities.remove(entity);
+                chunkEntry.removeEntity(entity, handler);
             }
         }
         this.removedEntities.clear();
@@ -307,17 +541,22 @@ public abstract class ThreadProvider {
         if (updatableEntities.isEmpty())
             return;
         for (Entity entity : updatableEntities) {
-            var acquirableEntity = entity.getAcquirable();
-            ChunkEntry handlerChunkEntry = acquirableEntity.getHandler().getChunkEntry();
+            var handler = entity.getAcquirable().getHandler();
+            ChunkEntry handlerChunkEntry = handler.getChunkEntry();
 
             Chunk entityChunk = entity.getChunk();
+            if (handlerChunkEntry != null && handlerChunkEntry.chunk == entityChunk &&
+                    handler.getChunkEntrySlot() != -1) {
+                // Entity went back to its chunk
+                continue;
+            }
 
             // Entity is possibly not in the correct thread
 
             // Remove from previous list
             {
                 if (handlerChunkEntry != null) {
-                    handlerChunkEntry.entities.remove(entity);
+                    handlerChunkEntry.removeEntity(entity, handler);
                 }
             }
 
@@ -325,8 +564,8 @@ public abstract class ThreadProvider {
             {
                 ChunkEntry chunkEntry = chunkEntryMap.get(entityChunk);
                 if (chunkEntry != null) {
-                    chunkEntry.entities.add(entity);
-                    acquirableEntity.getHandler().refreshChunkEntry(chunkEntry);
+                    chunkEntry.addEntity(entity, handler);
+                    handler.refreshChunkEntry(chunkEntry);
                 }
             }
         }
@@ -351,10 +590,91 @@ public abstract class ThreadProvider {
         RARELY
     }
 
+    /**
+     * Task executed by a {@link TickThread} every tick, reused between ticks.
+     */
+    private final class ThreadTask implements Runnable {
+        private final TickThread thread;
+        private final Runnable instanceRunnable = this::runInstances;
+        private final Set<ChunkEntry> chunkEntries = ConcurrentHashMap.newKeySet();
+        private final List<Instance> instances = new ArrayList<>();
+        // Snapshot of chunkEntries, rebuilt when modified
+        private ChunkEntry[] entries = new ChunkEntry[16];
+        private int size;
+        private volatile boolean dirty;
+
+        private long time;
+        private boolean folded;
+
+        private ThreadTask(@NotNull TickThread thread) {
+            this.thread = thread;
+        }
+
+        private void add(@NotNull ChunkEntry chunkEntry) {
+            this.chunkEntries.add(chunkEntry);
+            this.dirty = true;
+        }
+
+        private void remove(@NotNull ChunkEntry chunkEntry) {
+            this.chunkEntries.remove(chunkEntry);
+            this.dirty = true;
+        }
+
+        private void prepare(long time, boolean folded) {
+            this.time = time;
+            this.folded = folded;
+            if (!dirty)
+                return;
+            this.dirty = false;
+            int index = 0;
+            for (ChunkEntry chunkEntry : chunkEntries) {
+                if (index == entries.length) {
+                    this.entries = Arrays.copyOf(entries, index * 2);
+                }
+                this.entries[index++] = chunkEntry;
+            }
+            Arrays.fill(entries, index, size, null);
+            this.size = index;
+        }
+
+        @Override
+        public void run() {
+            final boolean tickInstances = folded && !instances.isEmpty();
+            if (!tickInstances && size == 0) {
+                // Nothing to tick
+                Acquirable.refreshEntries(Collections.emptySet());
+                return;
+            }
+
+            Acquirable.refreshEntries(chunkEntries);
+
+            final ReentrantLock lock = thread.getLock();
+            lock.lock();
+            startEntityBudget(thread);
+            if (tickInstances) {
+                tickInstances(instances, time);
+            }
+            final ChunkEntry[] entries = this.entries;
+            for (int i = 0; i < size; i++) {
+                tickChunkEntry(entries[i], lock, time);
+            }
+            Acquirable.refreshEntries(Collections.emptySet());
+            lock.unlock();
+        }
+
+        private void runInstances() {
+            final ReentrantLock lock = thread.getLock();
+            lock.lock();
+            tickInstances(instances, time);
+            lock.unlock();
+        }
+    }
+
     public static class ChunkEntry {
         private volatile TickThread thread;
         private final Chunk chunk;
         private final List<Entity> entities = new ArrayList<>();
+        private volatile long tickTime;
 
         private ChunkEntry(TickThread thread, Chunk chunk) {
             this.thread = thread;
@@ -373,6 +693,37 @@ public abstract class ThreadProvider {
             return entities;
         }
 
+        private void addEntity(@NotNull Entity entity, @NotNull Acquirable.Handler handler) {
+            handler.refreshChunkEntrySlot(entities.size());
+            this.entities.add(entity);
+        }
+
+        /**
+         * Removes an entity in constant time by moving the last entity to its slot.
+         */
+        private void removeEntity(@NotNull Entity entity, @NotNull Acquirable.Handler handler) {
+            final int slot = handler.getChunkEntrySlot();
+            if (slot < 0 || slot >= entities.size() || entities.get(slot) != entity) {
+                // Not in this entry
+                return;
+            }
+            handler.refreshChunkEntrySlot(-1);
+            final Entity lastEntity = entities.remove(entities.size() - 1);
+            if (lastEntity != entity) {
+                this.entities.set(slot, lastEntity);
+                lastEntity.getAcquirable().getHandler().refreshChunkEntrySlot(slot);
+            }
+        }
+
+        /**
+         * Gets the time spent ticking the chunk and its entities during the last tick.
+         *
+         * @return the last tick duration in nanoseconds
+         */
+        public long getTickTime() {
+            return tickTime;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
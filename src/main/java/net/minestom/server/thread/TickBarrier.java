@@ -0,0 +1,66 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.utils.validate.Check;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barrier used to wait for {@link TickThread tick threads} to be done with their task.
+ * <p>
+ * Unlike {@link java.util.concurrent.CountDownLatch}, a barrier can be reused once all parties arrived,
+ * meaning that it can be created once instead of every tick.
+ * Only one thread is expected to wait on the barrier.
+ */
+public final class TickBarrier {
+
+    private final AtomicInteger remaining = new AtomicInteger();
+    private volatile Thread waiter;
+
+    /**
+     * Prepares the barrier for a new tick.
+     *
+     * @param parties the number of tasks to wait for
+     * @throws IllegalStateException if the previous tasks are not done
+     */
+    void reset(int parties) {
+        Check.stateCondition(remaining.get() != 0, "The barrier cannot be reset while tasks are running");
+        this.remaining.set(parties);
+    }
+
+    /**
+     * Marks a task as done, waking up the waiting thread if it was the last one.
+     */
+    void arrive() {
+        if (remaining.decrementAndGet() == 0) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    /**
+     * Waits for all the tasks to be done.
+     *
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public void await() throws InterruptedException {
+        this.waiter = Thread.currentThread();
+        try {
+            while (remaining.get() > 0) {
+                LockSupport.park(this);
+                if (Thread.interrupted())
+                    throw new InterruptedException();
+            }
+        } finally {
+            this.waiter = null;
+        }
+    }
+
+    /**
+     * Gets the number of tasks not done yet.
+     *
+     * @return the remaining tasks
+     */
+    public int getRemaining() {
+        return remaining.get();
+    }
+}
@@ -0,0 +1,33 @@
+package net.minestom.server.thread;
+
+/**
+ * Represents the phases of a server tick, executed in declaration order.
+ * <p>
+ * Work can be registered into a phase using {@link TickPipeline#addTask(TickPhase, java.util.function.LongConsumer)}.
+ */
+public enum TickPhase {
+    /**
+     * Connection inputs, waiting players are added to the server and keep alive packets are handled.
+     */
+    INPUT,
+    /**
+     * Instances are ticked (time, world border, chunk unloading).
+     */
+    INSTANCE,
+    /**
+     * Chunks and their entities are ticked by the {@link ThreadProvider}.
+     */
+    ENTITY,
+    /**
+     * Executed once all chunks and entities have been ticked, used to apply block changes.
+     */
+    BLOCK_UPDATE,
+    /**
+     * Executed once the world state of the tick is final, used to update what players can see.
+     */
+    VISIBILITY,
+    /**
+     * Packets written during the tick are flushed to the connections.
+     */
+    NETWORK_FLUSH
+}
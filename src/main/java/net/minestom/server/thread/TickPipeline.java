@@ -0,0 +1,182 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Executes the {@link TickPhase phases} of a server tick.
+ * <p>
+ * Each phase first executes its built-in work, then the registered tasks in parallel
+ * across the {@link TickThread tick threads}. A phase only starts once the previous one is entirely done.
+ * <p>
+ * Registered tasks always run in a tick thread holding its lock, whatever the number of tasks in the phase.
+ */
+public final class TickPipeline {
+
+    private static final TickPhase[] PHASES = TickPhase.values();
+
+    private static final LongConsumer[] EMPTY_TASKS = new LongConsumer[0];
+
+    private final Map<TickPhase, List<LongConsumer>> phaseTasks = new EnumMap<>(TickPhase.class);
+    // Snapshot of the tasks of each phase, rebuilt when modified
+    private final AtomicReferenceArray<LongConsumer[]> phaseTaskArrays = new AtomicReferenceArray<>(PHASES.length);
+    private final long[] phaseTimes = new long[PHASES.length];
+    private final TickBarrier barrier = new TickBarrier();
+    // Task of each tick thread, reused between phases
+    private ThreadTask[] threadTasks = new ThreadTask[0];
+
+    public TickPipeline() {
+        for (TickPhase phase : PHASES) {
+            this.phaseTasks.put(phase, new CopyOnWriteArrayList<>());
+            this.phaseTaskArrays.set(phase.ordinal(), EMPTY_TASKS);
+        }
+    }
+
+    /**
+     * Adds a task executed every tick during {@code phase}.
+     * <p>
+     * Tasks of the same phase can run in parallel in any {@link TickThread},
+     * elements ticked by other threads need to be acquired.
+     * The long in the consumer represents the starting time (in ms) of the tick.
+     *
+     * @param phase the phase to execute the task in
+     * @param task  the task to execute
+     */
+    public synchronized void addTask(@NotNull TickPhase phase, @NotNull LongConsumer task) {
+        final List<LongConsumer> tasks = phaseTasks.get(phase);
+        tasks.add(task);
+        this.phaseTaskArrays.set(phase.ordinal(), tasks.toArray(EMPTY_TASKS));
+    }
+
+    /**
+     * Removes a task previously added with {@link #addTask(TickPhase, LongConsumer)}.
+     *
+     * @param phase the phase of the task
+     * @param task  the task to remove
+     */
+    public synchronized void removeTask(@NotNull TickPhase phase, @NotNull LongConsumer task) {
+        final List<LongConsumer> tasks = phaseTasks.get(phase);
+        tasks.remove(task);
+        this.phaseTaskArrays.set(phase.ordinal(), tasks.toArray(EMPTY_TASKS));
+    }
+
+    /**
+     * Gets the time spent executing a phase during its last execution.
+     *
+     * @param phase the phase
+     * @return the phase duration in milliseconds
+     */
+    public double getPhaseTime(@NotNull TickPhase phase) {
+        return phaseTimes[phase.ordinal()] / 1e6D;
+    }
+
+    /**
+     * Gets the time spent in each phase during its last execution.
+     *
+     * @return the duration in milliseconds of each phase
+     */
+    public @NotNull Map<TickPhase, Double> getPhaseTimes() {
+        Map<TickPhase, Double> result = new EnumMap<>(TickPhase.class);
+        for (TickPhase phase : PHASES) {
+            result.put(phase, getPhaseTime(phase));
+        }
+        return result;
+    }
+
+    /**
+     * Executes a phase and waits for all its tasks to be completed.
+     *
+     * @param phase   the phase to execute
+     * @param time    the tick start time in milliseconds
+     * @param threads the threads to execute the registered tasks in
+     * @param builtIn the work executed in the current thread before the registered tasks, can be null
+     */
+    @ApiStatus.Internal
+    public void runPhase(@NotNull TickPhase phase, long time,
+                         @NotNull List<TickThread> threads, @Nullable Runnable builtIn) {
+        final long start = System.nanoTime();
+        if (builtIn != null) {
+            builtIn.run();
+        }
+
+        final LongConsumer[] tasks = phaseTaskArrays.get(phase.ordinal());
+        final int taskCount = tasks.length;
+        if (taskCount > 0) {
+            // Spread the tasks over the tick threads
+            final int threadCount = Math.min(threads.size(), taskCount);
+            if (threadTasks.length < threadCount) {
+                this.threadTasks = Arrays.copyOf(threadTasks, threadCount);
+            }
+            barrier.reset(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                final TickThread thread = threads.get(i);
+                ThreadTask threadTask = threadTasks[i];
+                if (threadTask == null || threadTask.thread != thread) {
+                    threadTask = new ThreadTask(thread);
+                    this.threadTasks[i] = threadTask;
+                }
+                threadTask.prepare(tasks, i, threadCount, time);
+                thread.runnable.startTick(barrier, threadTask);
+            }
+            try {
+                barrier.await();
+            } catch (InterruptedException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+
+        this.phaseTimes[phase.ordinal()] = System.nanoTime() - start;
+    }
+
+    private static void runTask(@NotNull LongConsumer task, long time) {
+        try {
+            task.accept(time);
+        } catch (Exception e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    /**
+     * Runs a share of the tasks of a phase in a {@link TickThread}, reused every phase.
+     */
+    private static final class ThreadTask implements Runnable {
+        private final TickThread thread;
+        private LongConsumer[] tasks;
+        private int offset, step;
+        private long time;
+
+        private ThreadTask(@NotNull TickThread thread) {
+            this.thread = thread;
+        }
+
+        private void prepare(@NotNull LongConsumer[] tasks, int offset, int step, long time) {
+            this.tasks = tasks;
+            this.offset = offset;
+            this.step = step;
+            this.time = time;
+        }
+
+        @Override
+        public void run() {
+            final ReentrantLock lock = thread.getLock();
+            lock.lock();
+            final LongConsumer[] tasks = this.tasks;
+            for (int i = offset; i < tasks.length; i += step) {
+                runTask(tasks[i], time);
+            }
+            this.tasks = null;
+            lock.unlock();
+        }
+    }
+}
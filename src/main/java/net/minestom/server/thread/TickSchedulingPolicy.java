@@ -0,0 +1,23 @@
+package net.minestom.server.thread;
+
+/**
+ * Defines how the server tick loop behaves when a tick takes longer than {@link net.minestom.server.MinecraftServer#TICK_MS}.
+ */
+public enum TickSchedulingPolicy {
+    /**
+     * Ticks are scheduled at a fixed rate, late ticks are executed back-to-back to catch up.
+     * <p>
+     * The number of ticks to catch up is bounded by {@link net.minestom.server.UpdateManager#getMaxCatchUpTicks()},
+     * older ticks are dropped.
+     */
+    FIXED_RATE,
+    /**
+     * Missed ticks are skipped, the next tick waits for the next time slot of the fixed rate schedule.
+     */
+    SKIP_MISSED,
+    /**
+     * The tick rate slows down to the tick duration when overloaded, the next tick starts right after a late one
+     * without trying to catch up.
+     */
+    ADAPTIVE
+}
@@ -1,10 +1,12 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.thread.ThreadAffinity;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.CountDownLatch;
+import java.util.BitSet;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
@@ -18,6 +20,10 @@ public class TickThread extends Thread {
 
     protected final BatchRunnable runnable;
     private final ReentrantLock lock = new ReentrantLock();
+    // Only accessed by this thread, see ThreadProvider#startEntityBudget
+    long entityBudgetEnd = Long.MAX_VALUE;
+    // Applied by the thread itself before its next task
+    private volatile BitSet pendingAffinity;
 
     public TickThread(@NotNull BatchRunnable runnable, int number) {
         super(runnable, MinecraftServer.THREAD_NAME_TICK + "-" + number);
@@ -35,6 +41,27 @@ public class TickThread extends Thread {
         return lock;
     }
 
+    /**
+     * Restricts the thread to a set of CPUs, applied before its next task.
+     * <p>
+     * Does nothing if {@link ThreadAffinity#isSupported()} is false.
+     *
+     * @param cpus the allowed CPUs, null to ignore
+     */
+    public void setAffinity(@Nullable BitSet cpus) {
+        if (cpus != null && ThreadAffinity.isSupported()) {
+            this.pendingAffinity = (BitSet) cpus.clone();
+        }
+    }
+
+    private void applyPendingAffinity() {
+        final BitSet cpus = pendingAffinity;
+        if (cpus != null) {
+            this.pendingAffinity = null;
+            ThreadAffinity.pinCurrentThread(cpus);
+        }
+    }
+
     /**
      * Shutdowns the thread. Cannot be undone.
      */
@@ -45,13 +72,14 @@ public class TickThread extends Thread {
 
     protected static class BatchRunnable implements Runnable {
 
-        private static final AtomicReferenceFieldUpdater<BatchRunnable, TickContext> CONTEXT_UPDATER =
-                AtomicReferenceFieldUpdater.newUpdater(BatchRunnable.class, TickContext.class, "tickContext");
+        private static final AtomicReferenceFieldUpdater<BatchRunnable, Runnable> TASK_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(BatchRunnable.class, Runnable.class, "task");
 
         private volatile boolean stop;
         private TickThread tickThread;
 
-        private volatile TickContext tickContext;
+        private volatile Runnable task;
+        private TickBarrier barrier;
 
         @Override
         public void run() {
@@ -60,22 +88,32 @@ public class TickThread extends Thread {
                 LockSupport.park(tickThread);
                 if (stop)
                     break;
-                TickContext localContext = tickContext;
-                // The context is necessary to control the tick rates
-                if (localContext == null) {
+                tickThread.applyPendingAffinity();
+                // The task is necessary to control the tick rates
+                final Runnable localTask = TASK_UPDATER.getAndSet(this, null);
+                if (localTask == null) {
                     continue;
                 }
+                final TickBarrier localBarrier = barrier;
 
                 // Execute tick
-                localContext.runnable.run();
-
-                localContext.countDownLatch.countDown();
-                CONTEXT_UPDATER.compareAndSet(this, localContext, null);
+                try {
+                    localTask.run();
+                } finally {
+                    localBarrier.arrive();
+                }
             }
         }
 
-        protected void startTick(@NotNull CountDownLatch countDownLatch, @NotNull Runnable runnable) {
-            this.tickContext = new TickContext(countDownLatch, runnable);
+        /**
+         * Starts a task, the task and the barrier are not copied so both can be reused between ticks.
+         *
+         * @param barrier the barrier to arrive at once the task is done
+         * @param task    the task to run
+         */
+        protected void startTick(@NotNull TickBarrier barrier, @NotNull Runnable task) {
+            this.barrier = barrier;
+            this.task = task;
             LockSupport.unpark(tickThread);
         }
 
@@ -84,14 +122,4 @@ public class TickThread extends Thread {
         }
     }
 
-    private static class TickContext {
-        private final CountDownLatch countDownLatch;
-        private final Runnable runnable;
-
-        private TickContext(@NotNull CountDownLatch countDownLatch, @NotNull Runnable runnable) {
-            this.countDownLatch = countDownLatch;
-            this.runnable = runnable;
-        }
-    }
-
 }
@@ -7,6 +7,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.extensions.Extension;
 import net.minestom.server.extensions.IExtensionObserver;
 import net.minestom.server.utils.thread.MinestomThread;
+import net.minestom.server.utils.thread.VirtualThreadUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -35,6 +36,8 @@ public final class SchedulerManager implements IExtensionObserver {
     private final AtomicInteger shutdownCounter;
     //A threaded execution
     private final ExecutorService batchesPool;
+    // Execution of blocking work, created on first use
+    private volatile ExecutorService blockingPool;
     // A single threaded scheduled execution
     private final ScheduledExecutorService timerExecutionService;
     // All the registered tasks (task id = task)
@@ -115,6 +118,10 @@ public final class SchedulerManager implements IExtensionObserver {
         MinecraftServer.LOGGER.info("Shutting down the scheduled execution service and batches pool.");
         this.timerExecutionService.shutdown();
         this.batchesPool.shutdown();
+        final ExecutorService blockingPool = this.blockingPool;
+        if (blockingPool != null && blockingPool != batchesPool) {
+            blockingPool.shutdown();
+        }
         try {
             batchesPool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
         } catch (InterruptedException e) {
@@ -192,6 +199,31 @@ public final class SchedulerManager implements IExtensionObserver {
         return batchesPool;
     }
 
+    /**
+     * Gets the execution service for blocking work (I/O, database or HTTP calls),
+     * used by blocking tasks (see {@link TaskBuilder#blocking()}) and chunk loading/saving.
+     * <p>
+     * Each task runs in its own virtual thread if {@link MinecraftServer#isVirtualThreads()} is enabled,
+     * otherwise the tasks are executed in {@link #getBatchesPool()}.
+     *
+     * @return the execution service for blocking work
+     */
+    @NotNull
+    public ExecutorService getBlockingPool() {
+        ExecutorService pool = blockingPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = blockingPool;
+                if (pool == null) {
+                    pool = MinecraftServer.isVirtualThreads() ?
+                            VirtualThreadUtils.newVirtualThreadExecutor() : batchesPool;
+                    this.blockingPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
     /**
      * Gets the scheduled execution service for all the registered {@link Task}.
      *
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -37,6 +38,8 @@ public class Task implements Runnable {
      *  reload of that extension.
      */
     private final boolean isTransient;
+    // True if the task is executed in the blocking pool
+    private final boolean blocking;
 
     // Task completion/execution
     private ScheduledFuture<?> future;
@@ -53,6 +56,20 @@ public class Task implements Runnable {
      * @param repeat           The time until the repetition
      */
     public Task(@NotNull SchedulerManager schedulerManager, @NotNull Runnable runnable, boolean shutdown, long delay, long repeat, boolean isTransient, @Nullable String owningExtension) {
+        this(schedulerManager, runnable, shutdown, delay, repeat, isTransient, owningExtension, false);
+    }
+
+    /**
+     * Creates a task.
+     *
+     * @param schedulerManager The manager for the task
+     * @param runnable         The task to run when scheduled
+     * @param shutdown         Defines whether the task is a shutdown task
+     * @param delay            The time to delay
+     * @param repeat           The time until the repetition
+     * @param blocking         Defines whether the task runs in {@link SchedulerManager#getBlockingPool()}
+     */
+    public Task(@NotNull SchedulerManager schedulerManager, @NotNull Runnable runnable, boolean shutdown, long delay, long repeat, boolean isTransient, @Nullable String owningExtension, boolean blocking) {
         this.schedulerManager = schedulerManager;
         this.runnable = runnable;
         this.shutdown = shutdown;
@@ -61,6 +78,7 @@ public class Task implements Runnable {
         this.repeat = repeat;
         this.isTransient = isTransient;
         this.owningExtension = owningExtension;
+        this.blocking = blocking;
     }
 
     /**
@@ -68,7 +86,9 @@ public class Task implements Runnable {
      */
     @Override
     public void run() {
-        this.schedulerManager.getBatchesPool().execute(() -> {
+        final ExecutorService pool = blocking ?
+                this.schedulerManager.getBlockingPool() : this.schedulerManager.getBatchesPool();
+        pool.execute(() -> {
             this.currentThreadTask = Thread.currentThread();
             try {
                 this.runnable.run();
@@ -175,6 +195,15 @@ public class Task implements Runnable {
         return isTransient;
     }
 
+    /**
+     * Gets if the task is executed in {@link SchedulerManager#getBlockingPool()}.
+     *
+     * @return true if the task is blocking
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
     /**
      * Extension which owns this task, or null if none
      */
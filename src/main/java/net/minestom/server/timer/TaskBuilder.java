@@ -32,6 +32,8 @@ public class TaskBuilder {
      *  reload of that extension.
      */
     private boolean isTransient;
+    // True if the task should run in the blocking pool
+    private boolean blocking;
 
     /**
      * Creates a task builder.
@@ -140,6 +142,18 @@ public class TaskBuilder {
         return this;
     }
 
+    /**
+     * Specifies that the {@link Task} is blocking (I/O, database or HTTP calls),
+     * it will be executed in {@link SchedulerManager#getBlockingPool()} instead of the batches pool.
+     *
+     * @return this builder, for chaining
+     */
+    @NotNull
+    public TaskBuilder blocking() {
+        this.blocking = true;
+        return this;
+    }
+
     /**
      * Schedules this {@link Task} for execution.
      *
@@ -154,7 +168,8 @@ public class TaskBuilder {
                 this.delay,
                 this.repeat,
                 this.isTransient,
-                this.owningExtension);
+                this.owningExtension,
+                this.blocking);
         if (this.shutdown) {
             Int2ObjectMap<Task> shutdownTasks = this.schedulerManager.shutdownTasks;
             synchronized (shutdownTasks) {
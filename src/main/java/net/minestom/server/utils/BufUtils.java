@@ -1,6 +1,7 @@
 package net.minestom.server.utils;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 
 public class BufUtils {
@@ -10,4 +11,12 @@ public class BufUtils {
     public static ByteBuf direct() {
         return alloc.ioBuffer();
     }
+
+    public static ByteBuf direct(int initialCapacity) {
+        return alloc.ioBuffer(initialCapacity);
+    }
+
+    public static CompositeByteBuf compositeDirect() {
+        return alloc.compositeDirectBuffer(Integer.MAX_VALUE);
+    }
 }
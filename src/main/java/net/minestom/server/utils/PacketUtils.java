@@ -1,7 +1,6 @@
 package net.minestom.server.utils;
 
 import com.velocitypowered.natives.compression.VelocityCompressor;
-import com.velocitypowered.natives.util.Natives;
 import io.netty.buffer.ByteBuf;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
@@ -11,12 +10,15 @@ import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.entity.Player;
 import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.monitoring.NetworkMetrics;
 import net.minestom.server.network.netty.packet.FramedPacket;
 import net.minestom.server.network.packet.server.ComponentHoldingServerPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.EntityUpdateCoalescer;
 import net.minestom.server.network.player.NettyPlayerConnection;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.utils.binary.BinaryWriter;
+import net.minestom.server.utils.cache.CacheablePacket;
 import net.minestom.server.utils.callback.validator.PlayerValidator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,7 +33,8 @@ import java.util.zip.DataFormatException;
 public final class PacketUtils {
 
     private static final PacketListenerManager PACKET_LISTENER_MANAGER = MinecraftServer.getPacketListenerManager();
-    private static final ThreadLocal<VelocityCompressor> COMPRESSOR = ThreadLocal.withInitial(() -> Natives.compress.get().create(4));
+    // Packet length, uncompressed length and packet id
+    private static final int FRAME_HEADER_MAX_SIZE = 3 + 3 + 5;
 
     private PacketUtils() {
     }
@@ -89,11 +92,21 @@ public final class PacketUtils {
             needsTranslating = ComponentUtils.areAnyTranslatable(((ComponentHoldingServerPacket) packet).components());
         }
 
-        if (MinecraftServer.hasGroupedPacket() && !needsTranslating) {
+        // Merged per connection, see EntityUpdateCoalescer
+        final boolean coalesced = MinecraftServer.isEntityUpdateCoalescing() && EntityUpdateCoalescer.isMergeable(packet);
+
+        if (MinecraftServer.hasGroupedPacket() && !needsTranslating && !coalesced) {
             // Send grouped packet...
             final boolean success = PACKET_LISTENER_MANAGER.processServerPacket(packet, players);
             if (success) {
-                final ByteBuf finalBuffer = createFramedPacket(packet);
+                // Cached frames have already been compressed
+                ByteBuf finalBuffer = null;
+                if (packet instanceof CacheablePacket && MinecraftServer.hasPacketCaching()) {
+                    finalBuffer = CacheablePacket.retainCache(packet);
+                }
+                if (finalBuffer == null) {
+                    finalBuffer = createFramedPacket(packet);
+                }
                 final FramedPacket framedPacket = new FramedPacket(finalBuffer);
 
                 // Send packet to all players
@@ -107,6 +120,9 @@ public final class PacketUtils {
                     final PlayerConnection playerConnection = player.getPlayerConnection();
                     if (playerConnection instanceof NettyPlayerConnection) {
                         final NettyPlayerConnection nettyPlayerConnection = (NettyPlayerConnection) playerConnection;
+                        if (nettyPlayerConnection.dropIfCongested(packet))
+                            continue;
+                        nettyPlayerConnection.emitEntityUpdates(packet);
                         nettyPlayerConnection.write(framedPacket, true);
                     } else {
                         playerConnection.sendPacket(packet);
@@ -215,10 +231,13 @@ public final class PacketUtils {
     public static void writeFramedPacket(@NotNull ByteBuf buffer,
                                          @NotNull ServerPacket serverPacket) {
         final int compressionThreshold = MinecraftServer.getCompressionThreshold();
+        final NetworkMetrics networkMetrics = MinecraftServer.getNetworkMetrics();
+        final long start = networkMetrics.isEnabled() ? System.nanoTime() : 0;
 
         // Index of the var-int containing the complete packet length
         final int packetLengthIndex = Utils.writeEmpty3BytesVarInt(buffer);
         final int startIndex = buffer.writerIndex(); // Index where the content starts (after length)
+        final int packetSize;
         if (compressionThreshold > 0) {
             // Index of the uncompressed payload length
             final int dataLengthIndex = Utils.writeEmpty3BytesVarInt(buffer);
@@ -226,7 +245,7 @@ public final class PacketUtils {
             // Write packet
             final int contentIndex = buffer.writerIndex();
             writePacket(buffer, serverPacket);
-            final int packetSize = buffer.writerIndex() - contentIndex;
+            packetSize = buffer.writerIndex() - contentIndex;
 
             final int uncompressedLength = packetSize >= compressionThreshold ? packetSize : 0;
             Utils.write3BytesVarInt(buffer, dataLengthIndex, uncompressedLength);
@@ -234,16 +253,22 @@ public final class PacketUtils {
                 // Packet large enough, compress
                 ByteBuf uncompressedCopy = buffer.copy(contentIndex, packetSize);
                 buffer.writerIndex(contentIndex);
-                compress(COMPRESSOR.get(), uncompressedCopy, buffer);
+                compress(MinecraftServer.getAdaptiveCompression().getCompressor(serverPacket), uncompressedCopy, buffer);
                 uncompressedCopy.release();
             }
         } else {
             // No compression, write packet id + payload
             writePacket(buffer, serverPacket);
+            packetSize = buffer.writerIndex() - startIndex;
         }
         // Total length
         final int totalPacketLength = buffer.writerIndex() - startIndex;
         Utils.write3BytesVarInt(buffer, packetLengthIndex, totalPacketLength);
+
+        if (start != 0) {
+            networkMetrics.recordOutbound(serverPacket.getId(), buffer.writerIndex() - packetLengthIndex,
+                    packetSize, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -254,7 +279,8 @@ public final class PacketUtils {
      * Compression is applied if {@link MinecraftServer#getCompressionThreshold()} is greater than 0.
      */
     public static @NotNull ByteBuf createFramedPacket(@NotNull ServerPacket serverPacket) {
-        ByteBuf packetBuf = BufUtils.direct();
+        final int maxSize = serverPacket.getMaxSize();
+        ByteBuf packetBuf = maxSize >= 0 ? BufUtils.direct(FRAME_HEADER_MAX_SIZE + maxSize) : BufUtils.direct();
         writeFramedPacket(packetBuf, serverPacket);
         return packetBuf;
     }
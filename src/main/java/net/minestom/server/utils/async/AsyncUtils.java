@@ -1,6 +1,7 @@
 package net.minestom.server.utils.async;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.timer.SchedulerManager;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.CompletableFuture;
@@ -17,4 +18,21 @@ public final class AsyncUtils {
         });
     }
 
+    /**
+     * Runs blocking work (I/O, database or HTTP calls) in {@link SchedulerManager#getBlockingPool()},
+     * which uses virtual threads when enabled.
+     *
+     * @param runnable the blocking work
+     * @return the future completed once {@code runnable} has been executed
+     */
+    public static @NotNull CompletableFuture<Void> runBlocking(@NotNull Runnable runnable) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }, MinecraftServer.getSchedulerManager().getBlockingPool());
+    }
+
 }
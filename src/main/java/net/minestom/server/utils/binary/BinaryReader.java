@@ -11,6 +11,7 @@ import net.minestom.server.utils.NBTUtils;
 import net.minestom.server.utils.SerializerUtils;
 import net.minestom.server.utils.Utils;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jglrxavpok.hephaistos.nbt.NBT;
 import org.jglrxavpok.hephaistos.nbt.NBTException;
@@ -29,8 +30,9 @@ import java.util.function.Supplier;
  */
 public class BinaryReader extends InputStream {
 
-    private final ByteBuf buffer;
-    private final NBTReader nbtReader = new NBTReader(this, false);
+    private ByteBuf buffer;
+    // Created when first needed, most packets do not contain NBT
+    private NBTReader nbtReader;
 
     public BinaryReader(@NotNull ByteBuf buffer) {
         this.buffer = buffer;
@@ -247,6 +249,16 @@ public class BinaryReader extends InputStream {
         return buffer;
     }
 
+    /**
+     * Changes the buffer to read from, allowing a reader to be reused for multiple packets.
+     *
+     * @param buffer the new buffer
+     */
+    @ApiStatus.Internal
+    public void setBuffer(@NotNull ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
     @Override
     public int read() {
         return readByte() & 0xFF;
@@ -258,6 +270,8 @@ public class BinaryReader extends InputStream {
     }
 
     public NBT readTag() throws IOException, NBTException {
+        if (nbtReader == null)
+            this.nbtReader = new NBTReader(this, false);
         return nbtReader.read();
     }
 
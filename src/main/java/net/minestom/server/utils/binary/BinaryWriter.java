@@ -3,13 +3,16 @@ package net.minestom.server.utils.binary;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.FastThreadLocalThread;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.adventure.AdventureSerializer;
 import net.minestom.server.chat.JsonMessage;
 import net.minestom.server.item.ItemStack;
+import net.minestom.server.thread.TickThread;
 import net.minestom.server.utils.BlockPosition;
+import net.minestom.server.utils.BufUtils;
 import net.minestom.server.utils.SerializerUtils;
 import net.minestom.server.utils.Utils;
 import org.jetbrains.annotations.NotNull;
@@ -25,12 +28,29 @@ import java.util.function.Consumer;
 
 /**
  * Class used to write to a byte array.
+ * <p>
+ * Writers created with {@link #pooled()} or {@link #scratch()} use pooled direct memory
+ * and must be released with {@link #release()} (or {@link #close()}) once their content has been used.
  * WARNING: not thread-safe.
  */
 public class BinaryWriter extends OutputStream {
 
+    /**
+     * Scratch buffers larger than this are given back to the pool when released,
+     * so a single large packet does not keep its memory for the lifetime of the thread.
+     */
+    private static final int SCRATCH_MAX_CAPACITY = 1 << 20;
+
+    private static final ThreadLocal<BinaryWriter> SCRATCH = ThreadLocal.withInitial(() -> new BinaryWriter(BufUtils.direct(), true, true));
+
     private ByteBuf buffer;
-    private final NBTWriter nbtWriter = new NBTWriter(this, false);
+    private NBTWriter nbtWriter;
+
+    // Whether the buffer is owned by this writer and released with it
+    private final boolean pooled;
+    // Whether this writer is the scratch writer of its thread, see #scratch()
+    private final boolean scratch;
+    private boolean inUse;
 
     /**
      * Creates a {@link BinaryWriter} using a heap buffer with a custom initial capacity.
@@ -38,7 +58,7 @@ public class BinaryWriter extends OutputStream {
      * @param initialCapacity the initial capacity of the binary writer
      */
     public BinaryWriter(int initialCapacity) {
-        this.buffer = Unpooled.buffer(initialCapacity);
+        this(Unpooled.buffer(initialCapacity), false, false);
     }
 
     /**
@@ -47,7 +67,7 @@ public class BinaryWriter extends OutputStream {
      * @param buffer the writer buffer
      */
     public BinaryWriter(@NotNull ByteBuf buffer) {
-        this.buffer = buffer;
+        this(buffer, false, false);
     }
 
     /**
@@ -56,14 +76,93 @@ public class BinaryWriter extends OutputStream {
      * @param buffers the buffers making this
      */
     public BinaryWriter(@NotNull ByteBuf... buffers) {
-        this.buffer = Unpooled.wrappedBuffer(buffers);
+        this(Unpooled.wrappedBuffer(buffers), false, false);
     }
 
     /**
      * Creates a {@link BinaryWriter} with a "reasonably small initial capacity".
      */
     public BinaryWriter() {
-        this.buffer = Unpooled.buffer();
+        this(Unpooled.buffer(), false, false);
+    }
+
+    private BinaryWriter(@NotNull ByteBuf buffer, boolean pooled, boolean scratch) {
+        this.buffer = buffer;
+        this.pooled = pooled;
+        this.scratch = scratch;
+    }
+
+    /**
+     * Creates a {@link BinaryWriter} using a pooled direct buffer, which has to be released.
+     *
+     * @param initialCapacity the initial capacity of the binary writer
+     * @return a new pooled writer
+     * @see #release()
+     */
+    public static @NotNull BinaryWriter pooled(int initialCapacity) {
+        return new BinaryWriter(BufUtils.direct(initialCapacity), true, false);
+    }
+
+    /**
+     * Creates a {@link BinaryWriter} using a pooled direct buffer with a "reasonably small initial capacity".
+     *
+     * @return a new pooled writer
+     * @see #release()
+     */
+    public static @NotNull BinaryWriter pooled() {
+        return new BinaryWriter(BufUtils.direct(), true, false);
+    }
+
+    /**
+     * Gets the empty scratch writer of the current thread, whose buffer is reused once released.
+     * <p>
+     * Only tick threads and netty threads have a scratch writer, a {@link #pooled()} writer is returned
+     * for the other threads or if the scratch writer is already used.
+     *
+     * @return an empty writer to release once used
+     */
+    public static @NotNull BinaryWriter scratch() {
+        final Thread thread = Thread.currentThread();
+        if (!(thread instanceof TickThread) && !(thread instanceof FastThreadLocalThread)) {
+            // Short-lived threads would never give back their buffer
+            return pooled();
+        }
+        final BinaryWriter writer = SCRATCH.get();
+        if (writer.inUse) {
+            return pooled();
+        }
+        writer.inUse = true;
+        return writer;
+    }
+
+    /**
+     * Releases the buffer of a writer created with {@link #pooled()} or {@link #scratch()},
+     * does nothing for the other writers.
+     * <p>
+     * The writer and its buffer must not be used afterward.
+     */
+    public void release() {
+        if (scratch) {
+            if (!inUse)
+                return;
+            this.inUse = false;
+            if (buffer.capacity() > SCRATCH_MAX_CAPACITY) {
+                this.buffer.release();
+                this.buffer = BufUtils.direct();
+            } else {
+                this.buffer.clear();
+            }
+        } else if (pooled && buffer.refCnt() != 0) {
+            this.buffer.release();
+        }
+    }
+
+    /**
+     * Same as {@link #release()}, so pooled writers can be used in a try-with-resources statement.
+     */
+    @Override
+    public void close() {
+        release();
     }
 
     /**
@@ -289,6 +388,8 @@ public class BinaryWriter extends OutputStream {
 
     public void writeNBT(@NotNull String name, @NotNull NBT tag) {
         try {
+            if (nbtWriter == null)
+                this.nbtWriter = new NBTWriter(this, false);
             nbtWriter.writeNamed(name, tag);
         } catch (IOException e) {
             // should not throw, as nbtWriter points to this PacketWriter
@@ -377,6 +478,8 @@ public class BinaryWriter extends OutputStream {
 
     /**
      * Changes the buffer used by this binary writer.
+     * <p>
+     * For pooled writers, the new buffer is released by {@link #release()} instead of the previous one.
      *
      * @param buffer the new buffer used by this binary writer
      */
@@ -88,4 +88,20 @@ public interface CacheablePacket {
         }
     }
 
+    /**
+     * Retains the cached buffer of a packet so it can be shared with a connection without being copied.
+     *
+     * @param serverPacket the packet
+     * @return a retained slice of the cached framed packet, null if the packet cannot be cached
+     */
+    static @Nullable ByteBuf retainCache(@NotNull ServerPacket serverPacket) {
+        FramedPacket framedPacket = CacheablePacket.getCache(serverPacket);
+        if (framedPacket == null)
+            return null;
+        final ByteBuf body = framedPacket.getBody();
+        synchronized (body) {
+            return body.refCnt() != 0 ? body.retainedSlice() : null;
+        }
+    }
+
 }
@@ -0,0 +1,133 @@
+package net.minestom.server.utils.thread;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Pins threads to a set of CPUs, using the optional {@code minestom_affinity} native library
+ * (see {@code src/main/native/affinity.c}) which calls {@code sched_setaffinity} on Linux.
+ * <p>
+ * If the library cannot be found in {@code java.library.path}, pinning is a no-op.
+ */
+public final class ThreadAffinity {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThreadAffinity.class);
+    private static final String LIBRARY_NAME = "minestom_affinity";
+    private static final Path NODE_DIRECTORY = Paths.get("/sys/devices/system/node");
+
+    private static final boolean SUPPORTED = loadLibrary();
+
+    private ThreadAffinity() {
+
+    }
+
+    /**
+     * Gets if threads can be pinned, meaning that the native library has been loaded.
+     *
+     * @return true if thread pinning is supported
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Restricts the current thread to a set of CPUs.
+     *
+     * @param cpus the indexes of the allowed CPUs
+     * @return true if the thread has been pinned, false if unsupported or refused by the OS
+     */
+    public static boolean pinCurrentThread(@NotNull BitSet cpus) {
+        if (!SUPPORTED || cpus.isEmpty())
+            return false;
+        final int result = setAffinity0(cpus.toLongArray());
+        if (result != 0) {
+            LOGGER.warn("Unable to pin thread {} to cpus {} (errno {})", Thread.currentThread().getName(), cpus, result);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the CPUs of each NUMA node.
+     * <p>
+     * Read from sysfs on Linux, otherwise all the available processors are considered to be in a single node.
+     *
+     * @return the CPUs of each node, never empty
+     */
+    public static @NotNull List<@NotNull BitSet> getNumaNodes() {
+        List<BitSet> nodes = new ArrayList<>();
+        if (Files.isDirectory(NODE_DIRECTORY)) {
+            try (Stream<Path> paths = Files.list(NODE_DIRECTORY)) {
+                paths.filter(path -> path.getFileName().toString().matches("node\\d+"))
+                        .sorted(Comparator.comparingInt(path -> Integer.parseInt(path.getFileName().toString().substring(4))))
+                        .forEach(path -> {
+                            try {
+                                final BitSet cpus = parseCpuList(new String(Files.readAllBytes(path.resolve("cpulist"))));
+                                if (!cpus.isEmpty()) {
+                                    nodes.add(cpus);
+                                }
+                            } catch (IOException | NumberFormatException e) {
+                                LOGGER.debug("Unable to read the cpus of NUMA node {}", path, e);
+                            }
+                        });
+            } catch (IOException e) {
+                LOGGER.debug("Unable to list NUMA nodes", e);
+            }
+        }
+        if (nodes.isEmpty()) {
+            BitSet cpus = new BitSet();
+            cpus.set(0, Runtime.getRuntime().availableProcessors());
+            nodes.add(cpus);
+        }
+        return nodes;
+    }
+
+    /**
+     * Parses a Linux cpu list (e.g. {@code 0-3,8,10-11}).
+     *
+     * @param cpuList the cpu list
+     * @return the CPUs of the list
+     * @throws NumberFormatException if the list is malformed
+     */
+    public static @NotNull BitSet parseCpuList(@NotNull String cpuList) {
+        BitSet cpus = new BitSet();
+        for (String range : cpuList.trim().split(",")) {
+            if (range.isEmpty())
+                continue;
+            final int separator = range.indexOf('-');
+            if (separator == -1) {
+                cpus.set(Integer.parseInt(range));
+            } else {
+                final int start = Integer.parseInt(range.substring(0, separator));
+                final int end = Integer.parseInt(range.substring(separator + 1));
+                cpus.set(start, end + 1);
+            }
+        }
+        return cpus;
+    }
+
+    private static boolean loadLibrary() {
+        try {
+            System.loadLibrary(LIBRARY_NAME);
+            return true;
+        } catch (UnsatisfiedLinkError | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sets the affinity of the calling thread.
+     *
+     * @param mask the CPU mask, in the {@link BitSet#toLongArray()} format
+     * @return 0 on success, the errno value otherwise
+     */
+    private static native int setAffinity0(long[] mask);
+}
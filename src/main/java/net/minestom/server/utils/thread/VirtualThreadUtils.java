@@ -0,0 +1,60 @@
+package net.minestom.server.utils.thread;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gives access to virtual threads when running on Java 21 or later,
+ * the method being looked up at runtime so the server can still run on Java 11.
+ */
+public final class VirtualThreadUtils {
+
+    private static final MethodHandle NEW_EXECUTOR = findExecutorFactory();
+
+    private VirtualThreadUtils() {
+
+    }
+
+    /**
+     * Gets if virtual threads are supported by the current runtime.
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @return a new virtual thread executor
+     * @throws IllegalStateException if virtual threads are not supported, see {@link #isSupported()}
+     */
+    public static @NotNull ExecutorService newVirtualThreadExecutor() {
+        Check.stateCondition(!isSupported(), "Virtual threads require Java 21 or later");
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invokeExact();
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Unable to create the virtual thread executor", throwable);
+        }
+    }
+
+    private static @Nullable MethodHandle findExecutorFactory() {
+        // Virtual threads are a preview feature before Java 21
+        if (Runtime.version().feature() < 21)
+            return null;
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
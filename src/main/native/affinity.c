@@ -0,0 +1,35 @@
+// Native part of net.minestom.server.utils.thread.ThreadAffinity (Linux only).
+//
+// Build with:
+//   gcc -O2 -shared -fPIC -I"$JAVA_HOME/include" -I"$JAVA_HOME/include/linux" \
+//       -o libminestom_affinity.so affinity.c
+// and add the directory containing it to -Djava.library.path.
+
+#define _GNU_SOURCE
+#include <errno.h>
+#include <sched.h>
+#include <jni.h>
+
+JNIEXPORT jint JNICALL
+Java_net_minestom_server_utils_thread_ThreadAffinity_setAffinity0(JNIEnv *env, jclass clazz, jlongArray mask) {
+    const jsize length = (*env)->GetArrayLength(env, mask);
+    jlong *words = (*env)->GetLongArrayElements(env, mask, NULL);
+    if (words == NULL)
+        return ENOMEM;
+
+    cpu_set_t set;
+    CPU_ZERO(&set);
+    for (jsize i = 0; i < length; i++) {
+        for (int bit = 0; bit < 64; bit++) {
+            const int cpu = i * 64 + bit;
+            if (cpu >= CPU_SETSIZE)
+                break;
+            if ((words[i] >> bit) & 1)
+                CPU_SET(cpu, &set);
+        }
+    }
+    (*env)->ReleaseLongArrayElements(env, mask, words, JNI_ABORT);
+
+    // pid 0 targets the calling thread
+    return sched_setaffinity(0, sizeof(set), &set) == 0 ? 0 : errno;
+}
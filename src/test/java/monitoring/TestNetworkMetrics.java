@@ -0,0 +1,43 @@
+package monitoring;
+
+import net.minestom.server.monitoring.NetworkMetrics;
+import net.minestom.server.monitoring.PacketMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestNetworkMetrics {
+
+    @Test
+    public void outboundPackets() {
+        NetworkMetrics metrics = new NetworkMetrics();
+        metrics.recordOutbound(0x22, 100, 400, 2_000_000L);
+        metrics.recordOutbound(0x22, 50, 100, 1_000_000L);
+        // Out of range ids are ignored
+        metrics.recordOutbound(-1, 10, 10, 0);
+
+        final List<PacketMetrics> packets = metrics.getOutboundPackets();
+        assertEquals(1, packets.size());
+        final PacketMetrics packet = packets.get(0);
+        assertEquals(0x22, packet.getPacketId());
+        assertEquals(2, packet.getCount());
+        assertEquals(150, packet.getBytes());
+        assertEquals(0.3, packet.getCompressionRatio(), 1e-6);
+        assertEquals(3, packet.getEncodeTime(), 1e-6);
+    }
+
+    @Test
+    public void inboundPackets() {
+        NetworkMetrics metrics = new NetworkMetrics();
+        metrics.recordInbound(0x11, 33);
+        metrics.recordInbound(0x11, 33);
+
+        final PacketMetrics packet = metrics.getInboundPackets().get(0);
+        assertEquals(2, packet.getCount());
+        assertEquals(66, packet.getBytes());
+        assertEquals(1, packet.getCompressionRatio(), 1e-6);
+        assertTrue(metrics.getOutboundPackets().isEmpty());
+    }
+}
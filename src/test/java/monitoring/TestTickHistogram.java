@@ -0,0 +1,60 @@
+package monitoring;
+
+import net.minestom.server.monitoring.TickHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTickHistogram {
+
+    @Test
+    public void emptyHistogram() {
+        TickHistogram histogram = new TickHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void percentiles() {
+        TickHistogram histogram = new TickHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000_000L, histogram.getMax());
+        // Buckets have a precision of 12.5%
+        final long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 50_000_000L && median <= 50_000_000L * 1.125, "median: " + median);
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void bucketsCoverAllValues() {
+        TickHistogram histogram = new TickHistogram();
+        final long[] values = {0, 7, 8, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            histogram.record(value);
+        }
+        AtomicLong count = new AtomicLong();
+        histogram.forEachBucket((lowerBound, upperBound, bucketCount) -> {
+            assertTrue(lowerBound <= upperBound);
+            count.addAndGet(bucketCount);
+        });
+        assertEquals(values.length, count.get());
+    }
+
+    @Test
+    public void add() {
+        TickHistogram first = new TickHistogram();
+        TickHistogram second = new TickHistogram();
+        first.record(1_000);
+        second.record(3_000);
+        first.add(second);
+        assertEquals(2, first.getCount());
+        assertEquals(2_000, first.getMean());
+        assertEquals(3_000, first.getMax());
+    }
+}
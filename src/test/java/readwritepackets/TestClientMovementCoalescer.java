@@ -0,0 +1,64 @@
+package readwritepackets;
+
+import net.minestom.server.network.packet.client.ClientMovementCoalescer;
+import net.minestom.server.network.packet.client.ClientPlayPacket;
+import net.minestom.server.network.packet.client.play.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestClientMovementCoalescer {
+
+    @Test
+    public void mergeMovements() {
+        ClientMovementCoalescer coalescer = new ClientMovementCoalescer();
+        Queue<ClientPlayPacket> queue = new ArrayDeque<>();
+        queue.add(position(1, 64, 1, false));
+        queue.add(rotation(90, 10));
+        queue.add(position(2, 65, 2, true));
+
+        final ClientPlayPacket packet = coalescer.coalesce(queue.poll(), queue);
+        assertTrue(queue.isEmpty());
+        final ClientPlayerPositionAndRotationPacket merged = (ClientPlayerPositionAndRotationPacket) packet;
+        assertEquals(2, merged.x, 1e-6);
+        assertEquals(65, merged.y, 1e-6);
+        assertEquals(90, merged.yaw, 1e-6);
+        assertEquals(10, merged.pitch, 1e-6);
+        assertTrue(merged.onGround);
+    }
+
+    @Test
+    public void keepTeleportConfirmOrder() {
+        ClientMovementCoalescer coalescer = new ClientMovementCoalescer();
+        Queue<ClientPlayPacket> queue = new ArrayDeque<>();
+        final ClientPlayerPositionPacket first = position(1, 64, 1, false);
+        final ClientTeleportConfirmPacket teleportConfirmPacket = new ClientTeleportConfirmPacket();
+        queue.add(first);
+        queue.add(teleportConfirmPacket);
+        queue.add(position(2, 64, 2, false));
+
+        // Not followed by a movement, returned as is
+        assertSame(first, coalescer.coalesce(queue.poll(), queue));
+        assertSame(teleportConfirmPacket, queue.peek());
+        assertEquals(2, queue.size());
+    }
+
+    private static ClientPlayerPositionPacket position(double x, double y, double z, boolean onGround) {
+        ClientPlayerPositionPacket packet = new ClientPlayerPositionPacket();
+        packet.x = x;
+        packet.y = y;
+        packet.z = z;
+        packet.onGround = onGround;
+        return packet;
+    }
+
+    private static ClientPlayerRotationPacket rotation(float yaw, float pitch) {
+        ClientPlayerRotationPacket packet = new ClientPlayerRotationPacket();
+        packet.yaw = yaw;
+        packet.pitch = pitch;
+        return packet;
+    }
+}
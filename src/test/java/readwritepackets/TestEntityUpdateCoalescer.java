@@ -0,0 +1,109 @@
+package readwritepackets;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.network.player.EntityUpdateCoalescer;
+import net.minestom.server.utils.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestEntityUpdateCoalescer {
+
+    @Test
+    public void mergePositionAndRotation() {
+        EntityUpdateCoalescer coalescer = new EntityUpdateCoalescer();
+        List<ServerPacket> packets = new ArrayList<>();
+
+        assertTrue(coalescer.offer(position(1, 100, 0, 0), packets::add));
+        assertTrue(coalescer.offer(position(1, 50, 10, 0), packets::add));
+        assertTrue(coalescer.offer(rotation(1, 90, 0), packets::add));
+        assertTrue(coalescer.offer(rotation(1, 180, 45), packets::add));
+        assertTrue(packets.isEmpty());
+
+        coalescer.drain(packets::add);
+        assertEquals(1, packets.size());
+        final EntityPositionAndRotationPacket packet = (EntityPositionAndRotationPacket) packets.get(0);
+        assertEquals(150, packet.deltaX);
+        assertEquals(10, packet.deltaY);
+        assertEquals(180, packet.yaw);
+        assertEquals(45, packet.pitch);
+        assertTrue(coalescer.isEmpty());
+    }
+
+    @Test
+    public void splitLargeMovements() {
+        EntityUpdateCoalescer coalescer = new EntityUpdateCoalescer();
+        List<ServerPacket> packets = new ArrayList<>();
+
+        coalescer.offer(position(1, Short.MAX_VALUE, 0, 0), packets::add);
+        coalescer.offer(position(1, Short.MAX_VALUE, 0, 0), packets::add);
+        coalescer.drain(packets::add);
+
+        int deltaX = 0;
+        for (ServerPacket packet : packets) {
+            deltaX += ((EntityPositionPacket) packet).deltaX;
+        }
+        assertEquals(2 * Short.MAX_VALUE, deltaX);
+    }
+
+    @Test
+    public void teleportReplacesMovements() {
+        EntityUpdateCoalescer coalescer = new EntityUpdateCoalescer();
+        List<ServerPacket> packets = new ArrayList<>();
+
+        EntityTeleportPacket teleportPacket = new EntityTeleportPacket();
+        teleportPacket.entityId = 1;
+        teleportPacket.position = new Position(10, 64, 10);
+
+        coalescer.offer(position(1, 100, 0, 0), packets::add);
+        coalescer.offer(teleportPacket, packets::add);
+        // One block
+        coalescer.offer(position(1, 4096, 0, 0), packets::add);
+        coalescer.drain(packets::add);
+
+        assertEquals(1, packets.size());
+        final EntityTeleportPacket packet = (EntityTeleportPacket) packets.get(0);
+        assertEquals(11, packet.position.getX(), 1e-6);
+        // The teleport packet given to the coalescer must not be modified
+        assertEquals(10, teleportPacket.position.getX(), 1e-6);
+    }
+
+    @Test
+    public void flushBeforeDestroy() {
+        EntityUpdateCoalescer coalescer = new EntityUpdateCoalescer();
+        List<ServerPacket> packets = new ArrayList<>();
+
+        coalescer.offer(position(1, 100, 0, 0), packets::add);
+        coalescer.offer(position(2, 100, 0, 0), packets::add);
+
+        DestroyEntityPacket destroyEntityPacket = new DestroyEntityPacket();
+        destroyEntityPacket.entityId = 1;
+        assertFalse(coalescer.offer(destroyEntityPacket, packets::add));
+
+        // Only the movement of the destroyed entity is sent before the packet
+        assertEquals(1, packets.size());
+        assertEquals(1, ((EntityPositionPacket) packets.get(0)).entityId);
+        assertFalse(coalescer.isEmpty());
+    }
+
+    private static EntityPositionPacket position(int entityId, int deltaX, int deltaY, int deltaZ) {
+        EntityPositionPacket packet = new EntityPositionPacket();
+        packet.entityId = entityId;
+        packet.deltaX = (short) deltaX;
+        packet.deltaY = (short) deltaY;
+        packet.deltaZ = (short) deltaZ;
+        return packet;
+    }
+
+    private static EntityRotationPacket rotation(int entityId, float yaw, float pitch) {
+        EntityRotationPacket packet = new EntityRotationPacket();
+        packet.entityId = entityId;
+        packet.yaw = yaw;
+        packet.pitch = pitch;
+        return packet;
+    }
+}